@@ -0,0 +1,68 @@
+// src/jmh/java/com/voting/blockchain/benchmark/BenchmarkData.java
+package com.voting.blockchain.benchmark;
+
+import com.voting.blockchain.core.DifficultyRetargeter;
+import com.voting.blockchain.core.ParallelMiner;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import com.voting.blockchain.util.CryptoUtil;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+// Synthetic votes and chains shared by the benchmarks
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    // Votes with real RSA signatures from a single voter key pair
+    static List<VoteTransaction> signedVotes(int count, KeyPair keyPair) throws GeneralSecurityException {
+        String publicKey = CryptoUtil.encodePublicKey(keyPair.getPublic());
+        List<VoteTransaction> votes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            VoteTransaction vote = new VoteTransaction("voter-" + i, "candidate-" + (i % 5), publicKey, null);
+            vote.setSignature(CryptoUtil.sign(keyPair.getPrivate(), vote.calculateSignatureData()));
+            votes.add(vote);
+        }
+        return votes;
+    }
+
+    // Votes with realistically sized but random keys and signatures, for when nothing verifies them
+    static List<VoteTransaction> unsignedVotes(int count) {
+        Random random = new Random(42);
+        List<VoteTransaction> votes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            votes.add(new VoteTransaction("voter-" + i, "candidate-" + (i % 5),
+                    randomBase64(random, 294), randomBase64(random, 256))); // Sizes of a 2048-bit RSA key and signature
+        }
+        return votes;
+    }
+
+    // A valid chain of the given length, mined at a fixed difficulty so it is cheap to build
+    static List<Block> minedChain(int blocks, List<VoteTransaction> votesPerBlock, DifficultyRetargeter retargeter) {
+        ParallelMiner miner = new ParallelMiner(0);
+        try {
+            List<Block> chain = new ArrayList<>(blocks);
+            for (int i = 0; i < blocks; i++) {
+                String previousHash = i == 0 ? "0" : chain.get(i - 1).getHash();
+                Block block = new Block(i, previousHash, votesPerBlock, retargeter.nextBits(chain));
+                miner.mine(block);
+                chain.add(block);
+            }
+            return chain;
+        } finally {
+            miner.shutdown();
+        }
+    }
+
+    private static String randomBase64(Random random, int bytes) {
+        byte[] raw = new byte[bytes];
+        random.nextBytes(raw);
+        return Base64.getEncoder().encodeToString(raw);
+    }
+}
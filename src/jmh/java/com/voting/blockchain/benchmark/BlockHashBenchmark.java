@@ -0,0 +1,64 @@
+// src/jmh/java/com/voting/blockchain/benchmark/BlockHashBenchmark.java
+package com.voting.blockchain.benchmark;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block.calculateHash (what validation runs once per block) per header version, the Merkle root
+ * over the block's votes, and a single mining attempt on a prepared hasher.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockHashBenchmark {
+
+    @Param({"100", "1000"})
+    private int votes;
+
+    @Param({"1", "2", "4"})
+    private int version;
+
+    private Block block;
+    private BlockHasher hasher;
+    private int nonce;
+
+    @Setup
+    public void setUp() {
+        block = new Block(1, "0".repeat(64), BenchmarkData.unsignedVotes(votes));
+        block.setVersion(version);
+        block.setMerkleRoot(block.calculateMerkleRoot());
+        hasher = block.newHasher();
+    }
+
+    @Benchmark
+    public String calculateHash() {
+        return block.calculateHash();
+    }
+
+    @Benchmark
+    public String calculateMerkleRoot() {
+        return block.calculateMerkleRoot();
+    }
+
+    @Benchmark
+    public byte[] miningAttempt() {
+        return hasher.hash(nonce++);
+    }
+}
@@ -0,0 +1,76 @@
+// src/jmh/java/com/voting/blockchain/benchmark/ChainValidationBenchmark.java
+package com.voting.blockchain.benchmark;
+
+import com.voting.blockchain.core.ChainValidator;
+import com.voting.blockchain.core.DifficultyRetargeter;
+import com.voting.blockchain.core.SignatureVerifier;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.util.CryptoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a synthetic chain from scratch: the sequential pass isChainValid() makes over
+ * unverified blocks, and the parallel full audit. Blocks hold signed votes and are mined at a
+ * fixed 8 bits so the chain is quick to build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ChainValidationBenchmark {
+
+    @Param({"100", "1000"})
+    private int blocks;
+
+    @Param({"10"})
+    private int votesPerBlock;
+
+    @Param({"false", "true"})
+    private boolean verifySignatures;
+
+    private SignatureVerifier signatureVerifier;
+    private ChainValidator validator;
+    private List<Block> chain;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        DifficultyRetargeter retargeter = new DifficultyRetargeter(8, 1000, 20, 2, 8, 8);
+        signatureVerifier = new SignatureVerifier(0, 64, 10_000);
+        validator = new ChainValidator(signatureVerifier, retargeter, 0, verifySignatures);
+        chain = BenchmarkData.minedChain(blocks, BenchmarkData.signedVotes(votesPerBlock, CryptoUtil.generateKeyPair()), retargeter);
+    }
+
+    @Benchmark
+    public boolean isChainValid() {
+        validator.reset();
+        return validator.validateIncremental(chain);
+    }
+
+    @Benchmark
+    public boolean fullAudit() {
+        return validator.fullAudit(chain);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validator.shutdown();
+        signatureVerifier.shutdown();
+    }
+}
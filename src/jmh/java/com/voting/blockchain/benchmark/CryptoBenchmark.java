@@ -0,0 +1,80 @@
+// src/jmh/java/com/voting/blockchain/benchmark/CryptoBenchmark.java
+package com.voting.blockchain.benchmark;
+
+import com.voting.blockchain.util.CryptoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RSA signing and verification of a vote's signature data, and public key decoding with and
+ * without the decoded-key cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoBenchmark {
+
+    private static final String DATA = "voter-1candidate-a1700000000000";
+
+    @Param({"true", "false"})
+    private boolean publicKeyCache;
+
+    private KeyPair keyPair;
+    private String encodedPublicKey;
+    private String signature;
+    private Signature verifier;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        CryptoUtil.setPublicKeyCacheSize(publicKeyCache ? CryptoUtil.DEFAULT_PUBLIC_KEY_CACHE_SIZE : 0);
+        keyPair = CryptoUtil.generateKeyPair();
+        encodedPublicKey = CryptoUtil.encodePublicKey(keyPair.getPublic());
+        signature = CryptoUtil.sign(keyPair.getPrivate(), DATA);
+        verifier = CryptoUtil.newVerifier();
+    }
+
+    @Benchmark
+    public String sign() throws GeneralSecurityException {
+        return CryptoUtil.sign(keyPair.getPrivate(), DATA);
+    }
+
+    @Benchmark
+    public boolean verify() throws GeneralSecurityException {
+        return CryptoUtil.verify(verifier, keyPair.getPublic(), DATA, signature);
+    }
+
+    @Benchmark
+    public PublicKey decodePublicKey() throws GeneralSecurityException {
+        return CryptoUtil.decodePublicKey(encodedPublicKey);
+    }
+
+    // Decode plus verify, as done for every vote at admission and during validation
+    @Benchmark
+    public boolean decodeAndVerify() throws GeneralSecurityException {
+        return CryptoUtil.verify(verifier, CryptoUtil.decodePublicKey(encodedPublicKey), DATA, signature);
+    }
+
+    @TearDown
+    public void tearDown() {
+        CryptoUtil.setPublicKeyCacheSize(CryptoUtil.DEFAULT_PUBLIC_KEY_CACHE_SIZE);
+    }
+}
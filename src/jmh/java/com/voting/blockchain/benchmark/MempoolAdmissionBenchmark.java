@@ -0,0 +1,64 @@
+// src/jmh/java/com/voting/blockchain/benchmark/MempoolAdmissionBenchmark.java
+package com.voting.blockchain.benchmark;
+
+import com.voting.blockchain.core.Mempool;
+import com.voting.blockchain.core.MempoolFullException;
+import com.voting.blockchain.model.VoteTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mempool admission (reserve a slot, then add the vote) from many threads while a single block
+ * producer keeps cutting blocks out of it, as under sustained voting load.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MempoolAdmissionBenchmark {
+
+    private Mempool mempool;
+    private VoteTransaction vote;
+
+    @Setup
+    public void setUp() {
+        mempool = new Mempool(100_000, 2000, 5);
+        vote = BenchmarkData.unsignedVotes(1).get(0);
+    }
+
+    // Returns false when the vote was turned away because the mempool is full
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(7)
+    public boolean admit() {
+        try {
+            mempool.reserve();
+        } catch (MempoolFullException e) {
+            return false;
+        }
+        mempool.add(vote);
+        return true;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public List<VoteTransaction> cut() {
+        return mempool.cut();
+    }
+}
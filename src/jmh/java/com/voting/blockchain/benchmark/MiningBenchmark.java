@@ -0,0 +1,69 @@
+// src/jmh/java/com/voting/blockchain/benchmark/MiningBenchmark.java
+package com.voting.blockchain.benchmark;
+
+import com.voting.blockchain.core.ParallelMiner;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mines a full block (what Blockchain.mineBlock does) at several difficulties. Each invocation
+ * mines a fresh block, so the time per block averages over many nonce searches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MiningBenchmark {
+
+    @Param({"8", "12", "16", "20"})
+    private int difficultyBits;
+
+    // 0 = one worker per available processor
+    @Param({"1", "0"})
+    private int minerThreads;
+
+    private ParallelMiner miner;
+    private List<VoteTransaction> votes;
+    private Block block;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void startMiner() {
+        miner = new ParallelMiner(minerThreads);
+        votes = BenchmarkData.unsignedVotes(100);
+    }
+
+    @Setup(Level.Invocation)
+    public void newBlock() {
+        block = new Block(++index, "0".repeat(64), votes, difficultyBits);
+    }
+
+    @Benchmark
+    public Block mineBlock() {
+        miner.mine(block);
+        return block;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopMiner() {
+        miner.shutdown();
+    }
+}
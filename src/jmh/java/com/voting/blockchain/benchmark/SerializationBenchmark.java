@@ -0,0 +1,68 @@
+// src/jmh/java/com/voting/blockchain/benchmark/SerializationBenchmark.java
+package com.voting.blockchain.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (REST API) and BlockCodec (storage, peers) encoding and decoding of whole blocks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int votes;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Block block;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        block = new Block(1, "0".repeat(64), BenchmarkData.unsignedVotes(votes));
+        json = objectMapper.writeValueAsBytes(block);
+        binary = BlockCodec.encodeBlock(block);
+    }
+
+    @Benchmark
+    public byte[] jacksonSerialize() throws IOException {
+        return objectMapper.writeValueAsBytes(block);
+    }
+
+    @Benchmark
+    public Block jacksonDeserialize() throws IOException {
+        return objectMapper.readValue(json, Block.class);
+    }
+
+    @Benchmark
+    public byte[] codecEncode() {
+        return BlockCodec.encodeBlock(block);
+    }
+
+    @Benchmark
+    public Block codecDecode() {
+        return BlockCodec.decodeBlock(ByteBuffer.wrap(binary));
+    }
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/voting/blockchain/config/CryptoConfig.java
+package com.voting.blockchain.config;
+
+import com.voting.blockchain.util.CryptoUtil;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration // Applies application properties to the static CryptoUtil helpers
+public class CryptoConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(CryptoConfig.class);
+
+    @Value("${blockchain.crypto.public-key-cache-size:100000}")
+    private long publicKeyCacheSize;
+
+    @PostConstruct
+    public void configureCryptoUtil() {
+        CryptoUtil.setPublicKeyCacheSize(publicKeyCacheSize);
+        log.info("Public key cache limited to {} entries.", publicKeyCacheSize);
+    }
+}
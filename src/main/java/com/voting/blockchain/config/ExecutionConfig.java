@@ -0,0 +1,39 @@
+// src/main/java/com/voting/blockchain/config/ExecutionConfig.java
+package com.voting.blockchain.config;
+
+import com.voting.blockchain.util.VirtualThreads;
+import org.apache.coyote.ProtocolHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * blockchain.execution.mode=virtual handles every HTTP request on its own virtual thread, in
+ * place of Tomcat's platform thread pool (server.tomcat.threads.max). Requests that block, for
+ * example on the Firebase ID token check in FirebaseTokenFilter, then park a cheap virtual
+ * thread instead of pinning one of a few hundred pool threads. Storage calls follow the same
+ * setting (see StorageExecutor). Without Java 21 the node keeps the platform pool.
+ */
+@Configuration
+@EnableConfigurationProperties(ExecutionProperties.class)
+public class ExecutionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadRequestHandling(ExecutionProperties execution) {
+        if (execution.getMode() != ExecutionProperties.Mode.VIRTUAL) {
+            return protocolHandler -> { };
+        }
+        if (!VirtualThreads.isAvailable()) {
+            log.warn("blockchain.execution.mode=virtual needs Java 21 or later (running {}); requests stay on Tomcat's thread pool.",
+                    Runtime.version());
+            return protocolHandler -> { };
+        }
+        log.info("Handling requests on virtual threads.");
+        return protocolHandler -> protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("http-virtual-"));
+    }
+}
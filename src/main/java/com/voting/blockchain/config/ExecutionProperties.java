@@ -0,0 +1,33 @@
+// src/main/java/com/voting/blockchain/config/ExecutionProperties.java
+package com.voting.blockchain.config;
+
+import com.voting.blockchain.util.VirtualThreads;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * blockchain.execution.mode, read once for every component that follows it (request handling in
+ * ExecutionConfig, StorageExecutor, ChainEventService). Binding to the enum ignores case and
+ * surrounding whitespace, so "Virtual" selects virtual threads everywhere, not just in some places.
+ */
+@ConfigurationProperties(prefix = "blockchain.execution")
+public class ExecutionProperties {
+
+    public enum Mode {
+        PLATFORM, VIRTUAL
+    }
+
+    private Mode mode = Mode.PLATFORM;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    // True in virtual mode on a runtime that has virtual threads
+    public boolean useVirtualThreads() {
+        return mode == Mode.VIRTUAL && VirtualThreads.isAvailable();
+    }
+}
@@ -7,6 +7,10 @@ import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.cloud.FirestoreClient;
 import jakarta.annotation.PostConstruct; // For @PostConstruct
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource; // To load resource from classpath
@@ -16,13 +20,22 @@ import java.io.InputStream;
 @Configuration // Marks this class as a Spring configuration class
 public class FirebaseConfig {
 
-    private Firestore firestore;
+    private static final Logger log = LoggerFactory.getLogger(FirebaseConfig.class);
+
+    // Firestore is only required when it is the storage engine; a local node can run without credentials
+    @Value("${blockchain.storage.type:firestore}")
+    private String storageType;
 
     @PostConstruct // This method runs after dependency injection is done
     public void initializeFirebase() throws IOException {
         // Load the service account key from the classpath (src/main/resources)
         // Ensure you have renamed your downloaded JSON file to "serviceAccountKey.json"
-        InputStream serviceAccount = new ClassPathResource("serviceAccountKey.json").getInputStream();
+        ClassPathResource serviceAccountKey = new ClassPathResource("serviceAccountKey.json");
+        if (!serviceAccountKey.exists() && !"firestore".equalsIgnoreCase(storageType)) {
+            log.warn("serviceAccountKey.json not found. Firebase is disabled; ID tokens cannot be verified.");
+            return;
+        }
+        InputStream serviceAccount = serviceAccountKey.getInputStream();
 
         FirebaseOptions options = FirebaseOptions.builder()
                 .setCredentials(GoogleCredentials.fromStream(serviceAccount))
@@ -30,16 +43,15 @@ public class FirebaseConfig {
 
         if (FirebaseApp.getApps().isEmpty()) { // Check if FirebaseApp is already initialized
             FirebaseApp.initializeApp(options);
-            System.out.println("Firebase initialized successfully.");
+            log.info("Firebase initialized successfully.");
         } else {
-            System.out.println("Firebase already initialized.");
+            log.info("Firebase already initialized.");
         }
-
-        firestore = FirestoreClient.getFirestore();
     }
 
     @Bean // Makes the Firestore instance available as a Spring Bean
+    @ConditionalOnProperty(name = "blockchain.storage.type", havingValue = "firestore", matchIfMissing = true)
     public Firestore getFirestore() {
-        return firestore;
+        return FirestoreClient.getFirestore();
     }
-}
\ No newline at end of file
+}
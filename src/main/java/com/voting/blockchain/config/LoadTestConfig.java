@@ -0,0 +1,31 @@
+// src/main/java/com/voting/blockchain/config/LoadTestConfig.java
+package com.voting.blockchain.config;
+
+import com.voting.blockchain.security.IdTokenVerifier;
+import com.voting.blockchain.security.StubIdTokenVerifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The "loadtest" profile runs the node without any Firebase dependency: blocks and pending
+ * votes live in memory (see application-loadtest.properties) and ID tokens are checked by a
+ * stub, so synthetic voters can authenticate as themselves. Never enable it in production.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestConfig.class);
+
+    @Bean
+    @Primary // Takes over from FirebaseAuthenticationService for token checks
+    public IdTokenVerifier stubIdTokenVerifier(@Value("${blockchain.loadtest.token-prefix:loadtest:}") String tokenPrefix) {
+        log.warn("Load test profile active: ID tokens of the form '{}<uid>' are accepted without verification.", tokenPrefix);
+        return new StubIdTokenVerifier(tokenPrefix);
+    }
+}
@@ -0,0 +1,146 @@
+// src/main/java/com/voting/blockchain/config/MetricsConfig.java
+package com.voting.blockchain.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.voting.blockchain.core.BlockProducer;
+import com.voting.blockchain.core.Blockchain;
+import com.voting.blockchain.core.Mempool;
+import com.voting.blockchain.core.ParallelMiner;
+import com.voting.blockchain.core.SignatureVerifier;
+import com.voting.blockchain.core.StorageExecutor;
+import com.voting.blockchain.core.TransactionIndex;
+import com.voting.blockchain.core.VoterIndex;
+import com.voting.blockchain.security.TokenVerificationCache;
+import com.voting.blockchain.service.ChainEventService;
+import com.voting.blockchain.util.CryptoUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Supplier;
+
+/**
+ * Publishes the counters the components already keep as Micrometer gauges and function counters,
+ * so they are read only when scraped and add nothing to the hot paths. Latency timers are
+ * recorded where the work happens (see Blockchain).
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder blockchainMeters(Blockchain blockchain, Mempool mempool, ParallelMiner miner,
+                                        BlockProducer blockProducer, SignatureVerifier signatureVerifier,
+                                        VoterIndex voterIndex, TransactionIndex transactionIndex,
+                                        StorageExecutor storageExecutor) {
+        return registry -> {
+            // --- Chain and mining ---
+            Gauge.builder("blockchain.chain.length", blockchain, Blockchain::getChainLength)
+                    .description("Blocks in the chain, genesis included")
+                    .register(registry);
+            Gauge.builder("blockchain.mining.difficulty.bits", blockchain, Blockchain::getNextDifficultyBits)
+                    .description("Leading zero bits required of the next block's hash")
+                    .register(registry);
+            Gauge.builder("blockchain.mining.hash.rate", miner, ParallelMiner::getLastHashRate)
+                    .description("Hashes per second while mining the last block")
+                    .register(registry);
+            FunctionCounter.builder("blockchain.mining.hashes", miner, ParallelMiner::getTotalHashes)
+                    .description("Hashes computed by the miner")
+                    .register(registry);
+            FunctionCounter.builder("blockchain.mining.blocks", miner, ParallelMiner::getBlocksMined)
+                    .description("Blocks mined, genesis included")
+                    .register(registry);
+            FunctionCounter.builder("blockchain.producer.blocks", blockProducer, BlockProducer::getBlocksProduced)
+                    .description("Blocks cut by the block producer")
+                    .register(registry);
+
+            // --- Mempool and admission ---
+            Gauge.builder("blockchain.mempool.depth", mempool, Mempool::size)
+                    .description("Votes waiting to be mined")
+                    .register(registry);
+            Gauge.builder("blockchain.mempool.occupied", mempool, Mempool::getOccupied)
+                    .description("Mempool slots taken, including votes still being admitted")
+                    .register(registry);
+            Gauge.builder("blockchain.mempool.capacity", mempool, Mempool::getCapacity)
+                    .register(registry);
+            FunctionCounter.builder("blockchain.mempool.rejected.full", mempool, Mempool::getRejectedFull)
+                    .description("Votes turned away because the mempool was full")
+                    .register(registry);
+            FunctionCounter.builder("blockchain.admission.duplicates", voterIndex, VoterIndex::getDuplicateRejections)
+                    .description("Votes rejected because the voter had already voted")
+                    .register(registry);
+            Gauge.builder("blockchain.index.transactions", transactionIndex, TransactionIndex::getTransactionCount)
+                    .description("Confirmed votes findable by transaction ID and voter")
+                    .register(registry);
+
+            // --- Signature verification ---
+            FunctionCounter.builder("blockchain.signatures", signatureVerifier, SignatureVerifier::getVerifiedCount)
+                    .description("Signatures of submitted votes checked by the verifier pool")
+                    .tag("result", "valid")
+                    .register(registry);
+            FunctionCounter.builder("blockchain.signatures", signatureVerifier, SignatureVerifier::getRejectedCount)
+                    .description("Signatures of submitted votes checked by the verifier pool")
+                    .tag("result", "invalid")
+                    .register(registry);
+            Gauge.builder("blockchain.signatures.queue.depth", signatureVerifier, SignatureVerifier::getQueueDepth)
+                    .register(registry);
+
+            // --- Storage concurrency ---
+            Gauge.builder("blockchain.storage.in.flight", storageExecutor, StorageExecutor::getInFlight)
+                    .description("Storage calls holding a permit")
+                    .tag("threads", storageExecutor.isVirtual() ? "virtual" : "platform")
+                    .register(registry);
+            Gauge.builder("blockchain.storage.permits", storageExecutor, StorageExecutor::getMaxConcurrentCalls)
+                    .register(registry);
+            FunctionCounter.builder("blockchain.storage.rejected", storageExecutor, StorageExecutor::getRejectedCount)
+                    .description("Votes refused because no storage permit freed up in time")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder eventStreamMeters(ChainEventService eventService) {
+        return registry -> {
+            Gauge.builder("blockchain.events.subscribers", eventService, ChainEventService::getSubscriberCount)
+                    .description("Open Server-Sent Event streams")
+                    .register(registry);
+            FunctionCounter.builder("blockchain.events.dropped", eventService, ChainEventService::getDroppedSlow)
+                    .description("Event streams cut off because the client fell buffer-size events behind")
+                    .register(registry);
+            FunctionCounter.builder("blockchain.events.rejected", eventService, ChainEventService::getRejectedFull)
+                    .description("Event stream requests refused at max-subscribers")
+                    .register(registry);
+        };
+    }
+
+    // Same names and tags as Micrometer's own cache binders, so standard cache dashboards apply
+    @Bean
+    public MeterBinder cacheMeters(TokenVerificationCache tokenCache) {
+        return registry -> {
+            bindCache(registry, "id-tokens", tokenCache, tokenCache::getStats, tokenCache::getSize);
+            bindCache(registry, "public-keys", CryptoUtil.class, CryptoUtil::getPublicKeyCacheStats, CryptoUtil::getPublicKeyCacheEntries);
+        };
+    }
+
+    // Stats are fetched again on every scrape, since the public key cache is replaced when resized.
+    // Meters only hold their state object weakly, so it must be something that lives as long as the cache.
+    private static void bindCache(MeterRegistry registry, String name, Object owner,
+                                  Supplier<CacheStats> stats, Supplier<Long> size) {
+        FunctionCounter.builder("cache.gets", owner, o -> stats.get().hitCount())
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", owner, o -> stats.get().missCount())
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", owner, o -> stats.get().evictionCount())
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", owner, o -> size.get())
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,108 @@
+// src/main/java/com/voting/blockchain/config/StorageConfig.java
+package com.voting.blockchain.config;
+
+import com.google.cloud.firestore.Firestore;
+import com.voting.blockchain.storage.BlockStore;
+import com.voting.blockchain.storage.FirestoreBlockStore;
+import com.voting.blockchain.storage.FirestoreMempoolStore;
+import com.voting.blockchain.storage.InMemoryBlockStore;
+import com.voting.blockchain.storage.InMemoryMempoolStore;
+import com.voting.blockchain.storage.LocalBlockStore;
+import com.voting.blockchain.storage.LocalMempoolStore;
+import com.voting.blockchain.storage.MempoolStore;
+import com.voting.blockchain.storage.SegmentedLog;
+import com.voting.blockchain.storage.SnapshotStore;
+import com.voting.blockchain.storage.StorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Chooses where blocks and pending votes are persisted, via blockchain.storage.type:
+ * "firestore" (default) keeps them in Cloud Firestore, "local" in append-only segmented
+ * logs under blockchain.storage.local.directory, which needs no network access at all, and
+ * "memory" only on the heap (load tests; nothing survives a restart).
+ */
+@Configuration
+public class StorageConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageConfig.class);
+
+    // --- Firestore ---
+
+    @Bean
+    @ConditionalOnProperty(name = "blockchain.storage.type", havingValue = "firestore", matchIfMissing = true)
+    public BlockStore firestoreBlockStore(Firestore firestore) {
+        return new FirestoreBlockStore(firestore);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "blockchain.storage.type", havingValue = "firestore", matchIfMissing = true)
+    public MempoolStore firestoreMempoolStore(Firestore firestore,
+                                              @Value("${blockchain.persistence.queue-capacity:20000}") int queueCapacity,
+                                              @Value("${blockchain.persistence.batch-size:400}") int maxBatchSize,
+                                              @Value("${blockchain.persistence.max-delay-ms:10}") long maxDelayMillis,
+                                              @Value("${blockchain.persistence.enqueue-timeout-ms:100}") long enqueueTimeoutMillis,
+                                              @Value("${blockchain.persistence.max-in-flight-batches:4}") int maxInFlightBatches) {
+        return new FirestoreMempoolStore(firestore, queueCapacity, maxBatchSize, maxDelayMillis,
+                enqueueTimeoutMillis, maxInFlightBatches);
+    }
+
+    // --- Local segmented log ---
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "blockchain.storage.type", havingValue = "local")
+    public BlockStore localBlockStore(@Value("${blockchain.storage.local.directory:./data}") String directory,
+                                      @Value("${blockchain.storage.local.segment-bytes:67108864}") long segmentBytes,
+                                      @Value("${blockchain.storage.local.fsync:always}") String fsync,
+                                      @Value("${blockchain.storage.local.fsync-interval-ms:50}") long fsyncIntervalMillis) throws IOException {
+        Path path = Path.of(directory, "blocks");
+        log.info("Storing blocks in {} (fsync: {})", path.toAbsolutePath(), fsync);
+        return new LocalBlockStore(new SegmentedLog(path, segmentBytes, fsyncPolicy(fsync), fsyncIntervalMillis), path.toString());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "blockchain.storage.type", havingValue = "local")
+    public MempoolStore localMempoolStore(@Value("${blockchain.storage.local.directory:./data}") String directory,
+                                          @Value("${blockchain.storage.local.segment-bytes:67108864}") long segmentBytes,
+                                          @Value("${blockchain.storage.local.fsync:always}") String fsync,
+                                          @Value("${blockchain.storage.local.fsync-interval-ms:50}") long fsyncIntervalMillis) throws IOException, StorageException {
+        Path path = Path.of(directory, "mempool");
+        return new LocalMempoolStore(new SegmentedLog(path, segmentBytes, fsyncPolicy(fsync), fsyncIntervalMillis), path.toString());
+    }
+
+    // --- Heap only ---
+
+    @Bean
+    @ConditionalOnProperty(name = "blockchain.storage.type", havingValue = "memory")
+    public BlockStore inMemoryBlockStore() {
+        log.warn("Storing blocks in memory only; the chain is lost on restart.");
+        return new InMemoryBlockStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "blockchain.storage.type", havingValue = "memory")
+    public MempoolStore inMemoryMempoolStore() {
+        return new InMemoryMempoolStore();
+    }
+
+    // --- Snapshots (local files, whichever storage engine holds the blocks) ---
+
+    @Bean(destroyMethod = "shutdown")
+    public SnapshotStore snapshotStore(@Value("${blockchain.snapshot.directory:./data/snapshots}") String directory,
+                                       @Value("${blockchain.snapshot.interval-blocks:1000}") int intervalBlocks,
+                                       @Value("${blockchain.snapshot.retain:2}") int retain) throws IOException {
+        return new SnapshotStore(Path.of(directory), intervalBlocks, retain);
+    }
+
+    private static SegmentedLog.FsyncPolicy fsyncPolicy(String value) {
+        return SegmentedLog.FsyncPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
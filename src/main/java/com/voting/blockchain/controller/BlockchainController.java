@@ -1,41 +1,82 @@
 // src/main/java/com/voting/blockchain/controller/BlockchainController.java
 package com.voting.blockchain.controller;
 
+import com.voting.blockchain.core.BlockProducer;
 import com.voting.blockchain.core.Blockchain;
+import com.voting.blockchain.core.DuplicateVoteException;
+import com.voting.blockchain.core.Mempool;
+import com.voting.blockchain.core.MiningJob;
+import com.voting.blockchain.core.MempoolFullException;
+import com.voting.blockchain.core.ParallelMiner;
+import com.voting.blockchain.core.SignatureVerifier;
+import com.voting.blockchain.core.TallyIndex;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockCodec;
+import com.voting.blockchain.model.BlockHeader;
+import com.voting.blockchain.model.VoteReceipt;
 import com.voting.blockchain.model.VoteTransaction;
 import com.voting.blockchain.service.FirebaseAuthenticationService;
 import com.voting.blockchain.util.CryptoUtil;
+import com.voting.blockchain.util.MerkleTree;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails; // NEW: Import UserDetails (CRUCIAL FIX)
 import com.google.firebase.auth.FirebaseAuthException;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 import java.security.InvalidKeyException;
 import java.security.SignatureException;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/v1")
 public class BlockchainController {
 
+    // Upper bound on blocks per page, so one request can never materialise the whole chain
+    private static final int MAX_PAGE_SIZE = 500;
+    // Flush the NDJSON stream to the socket after this many blocks
+    private static final int STREAM_FLUSH_INTERVAL = 16;
+
     private final Blockchain blockchain;
     private final FirebaseAuthenticationService firebaseAuthService;
+    private final ParallelMiner miner;
+    private final ObjectMapper objectMapper;
+    private final SignatureVerifier signatureVerifier;
+    private final BlockProducer blockProducer;
 
     @Autowired
-    public BlockchainController(Blockchain blockchain, FirebaseAuthenticationService firebaseAuthService) {
+    public BlockchainController(Blockchain blockchain, FirebaseAuthenticationService firebaseAuthService,
+                                ParallelMiner miner, ObjectMapper objectMapper, SignatureVerifier signatureVerifier,
+                                BlockProducer blockProducer) {
         this.blockchain = blockchain;
         this.firebaseAuthService = firebaseAuthService;
+        this.miner = miner;
+        this.objectMapper = objectMapper;
+        this.signatureVerifier = signatureVerifier;
+        this.blockProducer = blockProducer;
     }
 
     /**
@@ -45,13 +86,229 @@ public class BlockchainController {
      */
     @GetMapping("/blockchain")
     public ResponseEntity<Map<String, Object>> getFullChain() {
+        List<Block> chain = blockchain.getChain(); // One consistent view for the blocks and the length
         Map<String, Object> response = new HashMap<>();
-        response.put("chain", blockchain.getChain());
-        response.put("length", blockchain.getChain().size());
+        response.put("chain", chain);
+        response.put("length", chain.size());
         response.put("isValid", blockchain.isChainValid()); // Also report if the chain is valid
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Endpoint to get a range of blocks.
+     * GET /api/v1/blocks?from=0&limit=100&headersOnly=false
+     * @param from Index of the first block to return
+     * @param limit Maximum number of blocks to return (capped at 500)
+     * @param headersOnly If true, return block headers without their transactions
+     * @return The requested blocks, the chain length and the index to request next (or null at the tip)
+     */
+    @GetMapping("/blocks")
+    public ResponseEntity<Map<String, Object>> getBlocks(@RequestParam(defaultValue = "0") int from,
+                                                         @RequestParam(defaultValue = "100") int limit,
+                                                         @RequestParam(defaultValue = "false") boolean headersOnly) {
+        if (from < 0 || limit <= 0) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "from must be >= 0 and limit must be > 0."));
+        }
+        List<Block> chain = blockchain.getChain();
+        int length = chain.size();
+        int end = (int) Math.min(length, (long) from + Math.min(limit, MAX_PAGE_SIZE));
+
+        List<Object> blocks = new ArrayList<>(Math.max(0, end - from));
+        for (int i = from; i < end; i++) {
+            Block block = chain.get(i);
+            blocks.add(headersOnly ? new BlockHeader(block) : block);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("blocks", blocks);
+        response.put("from", from);
+        response.put("length", length);
+        response.put("nextFrom", end < length ? end : null);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint to get a single block by index.
+     * GET /api/v1/blocks/{index}?headersOnly=false
+     * @param index Block index
+     * @return The block, or 404 if the chain is not that long
+     */
+    @GetMapping("/blocks/{index}")
+    public ResponseEntity<Object> getBlock(@PathVariable int index, @RequestParam(defaultValue = "false") boolean headersOnly) {
+        Block block = blockchain.getBlock(index);
+        if (block == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Collections.singletonMap("message", "No block with index " + index));
+        }
+        return ResponseEntity.ok(headersOnly ? new BlockHeader(block) : block);
+    }
+
+    /**
+     * Endpoint to get a single block by its hash.
+     * GET /api/v1/blocks/hash/{hash}?headersOnly=false
+     * @param hash Block hash (hex)
+     * @return The block, or 404 if no block has that hash
+     */
+    @GetMapping("/blocks/hash/{hash}")
+    public ResponseEntity<Object> getBlockByHash(@PathVariable String hash, @RequestParam(defaultValue = "false") boolean headersOnly) {
+        Block block = blockchain.getBlockByHash(hash);
+        if (block == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Collections.singletonMap("message", "No block with hash " + hash));
+        }
+        return ResponseEntity.ok(headersOnly ? new BlockHeader(block) : block);
+    }
+
+    /**
+     * Endpoint to stream blocks as newline-delimited JSON.
+     * Each block is serialized straight to the response and flushed in small groups, so memory
+     * use stays constant however long the chain is.
+     * GET /api/v1/blocks/stream?from=0&headersOnly=false
+     * @param from Index of the first block to stream
+     * @param headersOnly If true, stream block headers without their transactions
+     * @return One JSON object per line, from the given index up to the chain tip at request time
+     */
+    @GetMapping(value = "/blocks/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamBlocks(@RequestParam(defaultValue = "0") int from,
+                                                              @RequestParam(defaultValue = "false") boolean headersOnly) {
+        List<Block> chain = blockchain.getChain(); // Blocks mined while streaming are not included
+        StreamingResponseBody body = outputStream -> {
+            // We flush in groups ourselves, and separate root values with newlines instead of spaces
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            for (int i = Math.max(0, from); i < chain.size(); i++) {
+                Block block = chain.get(i);
+                writer.writeValue(generator, headersOnly ? new BlockHeader(block) : block);
+                generator.writeRaw('\n');
+                if ((i + 1) % STREAM_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            generator.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
+    /**
+     * Endpoint to stream blocks in the compact binary encoding, for node-to-node transfer.
+     * Each block is a 4-byte big-endian length followed by its BlockCodec record.
+     * GET /api/v1/blocks/binary?from=0&limit=
+     * @param from Index of the first block to stream
+     * @param limit Maximum number of blocks to stream (no limit if absent), e.g. for parallel range fetches by peers
+     * @return Length-prefixed block records, from the given index up to the chain tip at request time
+     */
+    @GetMapping(value = "/blocks/binary", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamBinaryBlocks(@RequestParam(defaultValue = "0") int from,
+                                                                    @RequestParam(required = false) Integer limit) {
+        List<Block> chain = blockchain.getChain();
+        int end = limit == null ? chain.size() : (int) Math.min(chain.size(), (long) Math.max(0, from) + Math.max(0, limit));
+        StreamingResponseBody body = outputStream -> {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream, 1 << 16));
+            for (int i = Math.max(0, from); i < end; i++) {
+                byte[] encoded = BlockCodec.encodeBlock(chain.get(i));
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(body);
+    }
+
+    /**
+     * Endpoint to re-verify every block, ignoring the cached validation watermark.
+     * The work is spread over the validator's worker pool, so it requires authentication, and
+     * repeated requests for an unchanged chain reuse the last verdict (see Blockchain.auditChain).
+     * GET /api/v1/blockchain/audit
+     * @return Audit verdict, first invalid index (or -1) and how long it took
+     */
+    @GetMapping("/blockchain/audit")
+    public ResponseEntity<Map<String, Object>> auditChain() {
+        boolean valid = blockchain.auditChain();
+        Map<String, Object> response = new HashMap<>();
+        response.put("isValid", valid);
+        response.put("length", blockchain.getChainLength());
+        response.put("verifiedUpTo", blockchain.getValidator().getVerifiedUpTo());
+        response.put("firstInvalidIndex", blockchain.getValidator().getFirstInvalidIndex());
+        response.put("auditMillis", blockchain.getValidator().getLastAuditMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint to get a Merkle inclusion proof for a transaction.
+     * GET /api/v1/blocks/{index}/proof/{txId}
+     * The client hashes its own transaction, folds in each sibling hash in order and compares
+     * the result with the block's merkleRoot, without downloading the rest of the block.
+     * @param index Block index
+     * @param txId Transaction ID returned when the vote was submitted
+     * @return Block header fields, the transaction position and the sibling hashes
+     */
+    @GetMapping("/blocks/{index}/proof/{txId}")
+    public ResponseEntity<Map<String, Object>> getInclusionProof(@PathVariable int index, @PathVariable String txId) {
+        Block block = blockchain.getBlock(index);
+        if (block == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonMap("message", "No block with index " + index));
+        }
+        if (block.getVersion() < Block.MERKLE_VERSION) {
+            return ResponseEntity.badRequest()
+                    .body(Collections.singletonMap("message", "Block " + index + " predates Merkle roots; fetch the full block instead."));
+        }
+        int position = block.transactionPosition(txId);
+        if (position < 0) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonMap("message", "Transaction " + txId + " is not in block " + index));
+        }
+
+        List<MerkleTree.ProofStep> proof = block.merkleProof(position);
+        Map<String, Object> response = new HashMap<>();
+        response.put("blockIndex", block.getIndex());
+        response.put("blockHash", block.getHash());
+        response.put("merkleRoot", block.getMerkleRoot());
+        response.put("txId", txId);
+        response.put("position", position);
+        response.put("proof", proof);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint to look up a confirmed vote by transaction ID, without scanning the chain.
+     * GET /api/v1/transactions/{txId}
+     * @param txId Transaction ID returned when the vote was submitted
+     * @return The vote, its block and position, and its confirmation depth; 404 if it is not on the chain (yet)
+     */
+    @GetMapping("/transactions/{txId}")
+    public ResponseEntity<Object> getTransaction(@PathVariable String txId) {
+        VoteReceipt receipt = blockchain.findReceiptByTxId(txId);
+        if (receipt == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonMap("message", "Transaction " + txId + " is not on the chain (it may still be pending)."));
+        }
+        return ResponseEntity.ok(receipt);
+    }
+
+    /**
+     * Endpoint for a voter to check that their vote was recorded.
+     * GET /api/v1/voters/{voterId}/receipt
+     * @param voterId Voter ID the vote was cast under
+     * @return 200 with the receipt once the vote is on the chain, 202 while it is pending, 404 if there is no vote
+     */
+    @GetMapping("/voters/{voterId}/receipt")
+    public ResponseEntity<Object> getVoterReceipt(@PathVariable String voterId) {
+        VoteReceipt receipt = blockchain.findReceiptByVoter(voterId);
+        if (receipt != null) {
+            return ResponseEntity.ok(receipt);
+        }
+        if (blockchain.getVoterIndex().hasVoted(voterId)) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("voterId", voterId);
+            response.put("status", "pending");
+            response.put("message", "The vote is waiting to be mined.");
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Collections.singletonMap("message", "No vote found for voter " + voterId));
+    }
+
     /**
      * Endpoint to generate a new RSA cryptographic key pair.
      * FOR TESTING/DEMO PURPOSES ONLY. In a real application, private keys
@@ -110,11 +367,11 @@ public class BlockchainController {
      * @return Confirmation message
      */
     @PostMapping("/transactions/new")
-    public ResponseEntity<Map<String, String>> newTransaction(@RequestBody Map<String, String> transactionRequest) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> newTransaction(@RequestBody Map<String, String> transactionRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(Collections.singletonMap("message", "Authentication required to cast a vote."));
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Collections.singletonMap("message", "Authentication required to cast a vote.")));
         }
 
         // --- FIX FOR ClassCastException (CRUCIAL) ---
@@ -129,38 +386,176 @@ public class BlockchainController {
         if (candidateId == null || candidateId.isEmpty() ||
                 senderPublicKey == null || senderPublicKey.isEmpty() ||
                 signature == null || signature.isEmpty()) {
-            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Candidate ID, senderPublicKey, and signature are required."));
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(Collections.singletonMap("message", "Candidate ID, senderPublicKey, and signature are required.")));
         }
 
         // Create the VoteTransaction with the authenticated voterId AND signature data
         VoteTransaction transaction = new VoteTransaction(voterId, candidateId, senderPublicKey, signature);
 
+        // The signature is verified off this thread; the response is written once admission completes
+        return blockchain.addTransaction(transaction).handle((admitted, error) -> {
+            if (error == null) {
+                Map<String, String> response = new HashMap<>();
+                response.put("message", "Transaction will be added to Block " + (blockchain.getChainLength() + 1) + " by voter: " + voterId);
+                response.put("txId", transaction.calculateTxId()); // Needed later to request an inclusion proof
+                return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof DuplicateVoteException) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(Collections.singletonMap("message", cause.getMessage()));
+            }
+            if (cause instanceof IllegalArgumentException) {
+                return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Transaction verification failed: " + cause.getMessage()));
+            }
+            if (cause instanceof MempoolFullException full) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(full.getRetryAfterSeconds()))
+                        .body(Collections.singletonMap("message", cause.getMessage() + " Please retry later."));
+            }
+            if (cause instanceof RejectedExecutionException) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Collections.singletonMap("message", "Server is busy, please retry: " + cause.getMessage()));
+            }
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Collections.singletonMap("error", "Transaction admission failed: " + cause.getMessage()));
+        });
+    }
+
+    /**
+     * Endpoint to request a new block. Blocks are normally produced in the background; this asks
+     * the block producer to cut one from whatever is pending now.
+     * GET /api/v1/mine?wait=false
+     * @param wait If true, respond once the block has been mined instead of straight away
+     * @return 202 with the job ID to poll, or the job's outcome when waiting; 429 if too many
+     *         requests are already waiting for the producer
+     */
+    @GetMapping("/mine")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> mineBlock(@RequestParam(defaultValue = "false") boolean wait) {
+        MiningJob job;
         try {
-            blockchain.addTransaction(transaction); // This will now verify the signature
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(Collections.singletonMap("message", "Transaction will be added to Block " + (blockchain.getChain().size() + 1) + " by voter: " + voterId));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Transaction verification failed: " + e.getMessage()));
+            job = blockProducer.trigger();
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Collections.singletonMap("message", e.getMessage() + "; please retry later.")));
         }
+        if (!wait) {
+            return CompletableFuture.completedFuture(miningJobResponse(job));
+        }
+        return job.getResult().handle((block, error) -> miningJobResponse(job));
     }
 
     /**
-     * Endpoint to mine a new block. This processes all pending transactions.
-     * GET /api/v1/mine
-     * @return Details of the new block and pending transactions
+     * Endpoint to check on a block requested through /mine.
+     * GET /api/v1/mine/jobs/{jobId}
+     * @param jobId ID returned by /mine
+     * @return The job status, and the block once it has been mined; 404 for unknown or expired jobs
      */
-    @GetMapping("/mine")
-    public ResponseEntity<Map<String, Object>> mineBlock() {
-        Block newBlock = blockchain.minePendingTransactions();
+    @GetMapping("/mine/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getMiningJob(@PathVariable String jobId) {
+        MiningJob job = blockProducer.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Collections.singletonMap("message", "No mining job " + jobId));
+        }
+        return miningJobResponse(job);
+    }
 
-        if (newBlock == null) {
-            return ResponseEntity.ok(Collections.singletonMap("message", "No pending transactions to mine."));
+    private ResponseEntity<Map<String, Object>> miningJobResponse(MiningJob job) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", job.getId());
+        response.put("status", job.getStatus());
+        switch (job.getStatus()) {
+            case QUEUED:
+                response.put("message", "Block production requested.");
+                return ResponseEntity.accepted().body(response);
+            case EMPTY:
+                response.put("message", "No pending transactions to mine.");
+                return ResponseEntity.ok(response);
+            case FAILED:
+                Throwable error = job.getResult().handle((block, e) -> e).join();
+                response.put("error", "Block production failed: " + error.getMessage());
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            default:
+                response.put("message", "New Block Forged!");
+                response.put("block", job.getResult().join());
+                response.put("pendingTransactionsAfterMine", blockchain.getMempool().size()); // Votes admitted while mining, or beyond the block limit
+                response.put("miningThreads", miner.getThreadCount());
+                response.put("hashRate", miner.getLastHashRate());
+                return ResponseEntity.ok(response);
         }
+    }
+
+    /**
+     * Endpoint to get proof-of-work miner statistics.
+     * GET /api/v1/mining/stats
+     * @return Worker thread count, current difficulty and retarget settings, hash rate of the last block, running totals and block producer state
+     */
+    @GetMapping("/mining/stats")
+    public ResponseEntity<Map<String, Object>> getMiningStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("threads", miner.getThreadCount());
+        response.put("difficultyBits", blockchain.getNextDifficultyBits());
+        response.put("lastBlockDifficultyBits", blockchain.getLatestBlock().getDifficultyBits());
+        response.put("targetBlockIntervalMs", blockchain.getRetargeter().getTargetBlockMillis());
+        response.put("retargetWindow", blockchain.getRetargeter().getWindow());
+        response.put("lastBlockHashRate", miner.getLastHashRate());
+        response.put("lastBlockMillis", miner.getLastBlockMillis());
+        response.put("blocksMined", miner.getBlocksMined());
+        response.put("totalHashes", miner.getTotalHashes());
+        response.put("producerAutomatic", blockProducer.isAutomatic());
+        response.put("producerBatchThreshold", blockProducer.getBatchThreshold());
+        response.put("producerMaxLatencyMillis", blockProducer.getMaxLatencyMillis());
+        response.put("producerBlocksProduced", blockProducer.getBlocksProduced());
+        response.put("producerLastCutReason", blockProducer.getLastCutReason());
+        response.put("producerLastOldestWaitMillis", blockProducer.getLastOldestWaitMillis());
+        response.put("producerQueuedJobs", blockProducer.getQueuedJobs());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint to get the current per-candidate vote counts.
+     * Served from counters maintained as votes arrive and blocks are mined, so it never scans the chain.
+     * GET /api/v1/tally
+     * @return Confirmed and pending counts per candidate, with totals
+     */
+    @GetMapping("/tally")
+    public ResponseEntity<Map<String, Object>> getTally() {
+        TallyIndex tally = blockchain.getTally();
+        Map<String, Object> response = new HashMap<>();
+        response.put("confirmed", tally.getConfirmed());
+        response.put("pending", tally.getPending());
+        response.put("totalConfirmed", tally.getTotalConfirmed());
+        response.put("totalPending", tally.getTotalPending());
+        response.put("countedUpToBlock", tally.getCountedUpToBlock());
+        return ResponseEntity.ok(response);
+    }
 
+    /**
+     * Endpoint to get vote admission statistics.
+     * GET /api/v1/admission/stats
+     * @return Mempool, voter index, signature pipeline and public key cache counters
+     */
+    @GetMapping("/admission/stats")
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() {
         Map<String, Object> response = new HashMap<>();
-        response.put("message", "New Block Forged!");
-        response.put("block", newBlock);
-        response.put("pendingTransactionsAfterMine", blockchain.getPendingTransactions()); // Should be empty
+        response.put("registeredVoters", blockchain.getVoterIndex().getVoterCount());
+        response.put("duplicateRejections", blockchain.getVoterIndex().getDuplicateRejections());
+        response.put("signaturesVerified", signatureVerifier.getVerifiedCount());
+        response.put("signaturesRejected", signatureVerifier.getRejectedCount());
+        response.put("signatureBatches", signatureVerifier.getBatchCount());
+        response.put("signatureQueueDepth", signatureVerifier.getQueueDepth());
+        response.put("signatureThreads", signatureVerifier.getThreadCount());
+        response.put("persistenceQueueDepth", blockchain.getMempoolStore().getQueueDepth());
+        Mempool mempool = blockchain.getMempool();
+        response.put("mempoolSize", mempool.size());
+        response.put("mempoolOccupied", mempool.getOccupied());
+        response.put("mempoolCapacity", mempool.getCapacity());
+        response.put("mempoolRejectedFull", mempool.getRejectedFull());
+        CacheStats keyCacheStats = CryptoUtil.getPublicKeyCacheStats();
+        response.put("publicKeyCacheHitRate", keyCacheStats.hitRate());
+        response.put("publicKeyCacheHits", keyCacheStats.hitCount());
+        response.put("publicKeyCacheMisses", keyCacheStats.missCount());
+        response.put("publicKeyCacheEntries", CryptoUtil.getPublicKeyCacheEntries());
+        response.put("publicKeyCacheMaxSize", CryptoUtil.getPublicKeyCacheMaxSize());
         return ResponseEntity.ok(response);
     }
 
@@ -172,8 +567,9 @@ public class BlockchainController {
     @GetMapping("/transactions/pending")
     public ResponseEntity<Map<String, Object>> getPendingTransactions() {
         Map<String, Object> response = new HashMap<>();
-        response.put("pending_transactions", blockchain.getPendingTransactions());
-        response.put("count", blockchain.getPendingTransactions().size());
+        List<VoteTransaction> pendingTransactions = blockchain.getPendingTransactions();
+        response.put("pending_transactions", pendingTransactions);
+        response.put("count", pendingTransactions.size());
         return ResponseEntity.ok(response);
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+// src/main/java/com/voting/blockchain/controller/EventController.java
+package com.voting.blockchain.controller;
+
+import com.voting.blockchain.service.ChainEventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/v1")
+public class EventController {
+
+    private final ChainEventService eventService;
+
+    @Autowired
+    public EventController(ChainEventService eventService) {
+        this.eventService = eventService;
+    }
+
+    /**
+     * Endpoint to follow the chain as Server-Sent Events instead of polling (see ChainEventService).
+     * GET /api/v1/events
+     * @param lastEventIdHeader Sent by EventSource when it reconnects: the last block index received
+     * @param lastEventId The same as a query parameter, for clients that cannot set headers
+     * @return An open event stream, or 503 with Retry-After if the subscriber limit is reached
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                                   @RequestParam(required = false) String lastEventId) {
+        Long resumeAfter = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+        try {
+            SseEmitter emitter = eventService.subscribe(resumeAfter);
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no") // Keep reverse proxies from buffering the stream
+                    .body(emitter);
+        } catch (RejectedExecutionException e) {
+            // No JSON body, since the client only accepts an event stream
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+    }
+
+    /**
+     * Endpoint to see how many event streams are open and how many were cut off.
+     * GET /api/v1/events/stats
+     */
+    @GetMapping("/events/stats")
+    public ResponseEntity<Map<String, Object>> getEventStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("subscribers", eventService.getSubscriberCount());
+        response.put("droppedSlow", eventService.getDroppedSlow());
+        response.put("rejectedFull", eventService.getRejectedFull());
+        return ResponseEntity.ok(response);
+    }
+
+    // An unparseable ID is treated like none: the client gets a fresh snapshot
+    private static Long parseEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+// src/main/java/com/voting/blockchain/controller/PeerController.java
+package com.voting.blockchain.controller;
+
+import com.voting.blockchain.core.Blockchain;
+import com.voting.blockchain.core.ImmutableChain;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockCodec;
+import com.voting.blockchain.network.PeerService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Endpoints other nodes call to replicate the chain (see PeerService). Block bodies and headers
+ * are served by the regular /blocks endpoints.
+ */
+@RestController
+@RequestMapping("/api/v1/peers")
+public class PeerController {
+
+    private final Blockchain blockchain;
+    private final PeerService peerService;
+
+    @Autowired
+    public PeerController(Blockchain blockchain, PeerService peerService) {
+        this.blockchain = blockchain;
+        this.peerService = peerService;
+    }
+
+    /**
+     * Endpoint a peer polls to decide whether to sync from this node.
+     * GET /api/v1/peers/status
+     * @return Chain length, tip hash and cumulative work (a decimal string, as it can exceed a long)
+     */
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        ImmutableChain chain = blockchain.getChain();
+        Map<String, Object> response = new HashMap<>();
+        response.put("length", chain.size());
+        response.put("tipHash", chain.getLast().getHash());
+        response.put("totalWork", blockchain.getTotalWork().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint to see the configured peers and what they last reported.
+     * GET /api/v1/peers
+     * @return This node's URL, per-peer state and replication counters
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getPeers() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("self", peerService.getSelfUrl());
+        response.put("peers", peerService.getPeerStates());
+        response.put("announcementsSent", peerService.getAnnouncementsSent());
+        response.put("blocksAccepted", peerService.getBlocksAccepted());
+        response.put("syncsAdopted", peerService.getSyncsAdopted());
+        response.put("blocksSynced", peerService.getBlocksSynced());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Endpoint a peer POSTs a newly added block to, encoded with BlockCodec.
+     * POST /api/v1/peers/blocks
+     * @return 201 if the block extended this chain, 200 if it was already known, 202 if it did
+     *         not connect and a sync was started, 400 if it was malformed or invalid, 403 if the
+     *         sender is not a configured peer (see PeerService.isTrustedPeer)
+     */
+    @PostMapping(value = "/blocks", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Object>> receiveBlock(@RequestBody byte[] body,
+                                                            @RequestHeader(value = PeerService.ORIGIN_HEADER, required = false) String origin,
+                                                            @RequestHeader(value = PeerService.TOKEN_HEADER, required = false) String token,
+                                                            HttpServletRequest request) {
+        if (!peerService.isTrustedPeer(request.getRemoteAddr(), token)) {
+            return forbidden();
+        }
+        Block block;
+        try {
+            block = BlockCodec.decodeBlock(ByteBuffer.wrap(body));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Malformed block: " + e.getMessage()));
+        }
+        PeerService.AnnounceOutcome outcome = peerService.receive(block, origin);
+        HttpStatus status = switch (outcome) {
+            case ACCEPTED -> HttpStatus.CREATED;
+            case KNOWN -> HttpStatus.OK;
+            case SYNCING -> HttpStatus.ACCEPTED;
+            case INVALID -> HttpStatus.BAD_REQUEST;
+        };
+        Map<String, Object> response = new HashMap<>();
+        response.put("outcome", outcome.name().toLowerCase());
+        response.put("index", block.getIndex());
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * Endpoint to start a sync round now instead of waiting for the next interval.
+     * POST /api/v1/peers/sync
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<Map<String, Object>> requestSync(@RequestHeader(value = PeerService.TOKEN_HEADER, required = false) String token,
+                                                           HttpServletRequest request) {
+        if (!peerService.isTrustedPeer(request.getRemoteAddr(), token)) {
+            return forbidden();
+        }
+        peerService.requestSync();
+        return ResponseEntity.accepted().body(Collections.singletonMap("message", "Sync requested."));
+    }
+
+    private static ResponseEntity<Map<String, Object>> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Collections.singletonMap("message", "Only configured peers may push to this node."));
+    }
+}
@@ -0,0 +1,232 @@
+// src/main/java/com/voting/blockchain/core/BlockProducer.java
+package com.voting.blockchain.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Produces blocks in the background. A block is cut as soon as the mempool holds the batch
+ * threshold, or when the oldest pending vote has waited the maximum latency, whichever comes
+ * first, so the time from admission to confirmation is bounded by roughly the latency plus one
+ * mining round. Mining runs on the producer thread, never on a request thread.
+ *
+ * Blocks can also be requested explicitly with trigger(), which returns a MiningJob that is
+ * completed by the producer thread. At most max-queued-jobs requests wait at a time. Automatic
+ * production can be switched off, leaving only triggered blocks.
+ *
+ * When producing a block fails, the producer waits before the next attempt, doubling the wait
+ * with every further failure up to MAX_BACKOFF_MILLIS.
+ */
+@Component
+public class BlockProducer {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockProducer.class);
+
+    // How long the producer sleeps when there is nothing to do; adds and triggers wake it earlier
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MIN_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final Blockchain blockchain;
+    private final Mempool mempool;
+    private final boolean automatic;
+    private final int batchThreshold;
+    private final long maxLatencyMillis;
+    private final BlockingQueue<MiningJob> triggeredJobs;
+    private final Cache<String, MiningJob> recentJobs = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    private final AtomicLong jobCounter = new AtomicLong();
+    private final Thread producer;
+    private volatile boolean running = true;
+    private int consecutiveFailures; // Producer thread only
+
+    // --- Statistics ---
+    private volatile long blocksProduced;
+    private volatile long lastBlockMillis;
+    private volatile long lastOldestWaitMillis;
+    private volatile String lastCutReason = "none";
+
+    public BlockProducer(Blockchain blockchain, Mempool mempool,
+                         @Value("${blockchain.producer.enabled:true}") boolean automatic,
+                         @Value("${blockchain.producer.batch-threshold:500}") int batchThreshold,
+                         @Value("${blockchain.producer.max-latency-ms:2000}") long maxLatencyMillis,
+                         @Value("${blockchain.producer.max-queued-jobs:100}") int maxQueuedJobs) {
+        this.blockchain = blockchain;
+        this.mempool = mempool;
+        this.automatic = automatic;
+        this.batchThreshold = Math.max(1, Math.min(batchThreshold, mempool.getMaxBlockTransactions()));
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.triggeredJobs = new ArrayBlockingQueue<>(Math.max(1, maxQueuedJobs));
+        this.producer = new Thread(this::produceLoop, "block-producer");
+        this.producer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        // Wake up as soon as a block's worth of votes is waiting; unpark is cheap enough for the admission path
+        if (automatic) {
+            mempool.setSizeListener(batchThreshold, () -> LockSupport.unpark(producer));
+        }
+        producer.start();
+        log.info("Block producer started: {}", automatic
+                ? "cutting at " + batchThreshold + " votes or " + maxLatencyMillis + " ms"
+                : "on demand only");
+    }
+
+    /**
+     * Asks the producer to cut a block from whatever is pending now. Returns immediately; the
+     * job's future completes with the new block, or with null if the mempool was empty.
+     * @throws RejectedExecutionException if max-queued-jobs requests are already waiting
+     */
+    public MiningJob trigger() {
+        MiningJob job = new MiningJob(Long.toString(jobCounter.incrementAndGet()));
+        if (!running) {
+            job.getResult().completeExceptionally(new IllegalStateException("Block producer is shut down"));
+        } else if (triggeredJobs.offer(job)) {
+            LockSupport.unpark(producer);
+        } else {
+            throw new RejectedExecutionException(triggeredJobs.size() + " block requests are already waiting");
+        }
+        recentJobs.put(job.getId(), job);
+        return job;
+    }
+
+    // A job from the last few minutes, or null
+    public MiningJob getJob(String id) {
+        return recentJobs.getIfPresent(id);
+    }
+
+    private void produceLoop() {
+        while (running) {
+            MiningJob job = triggeredJobs.poll();
+            if (job != null) {
+                produce(job, "triggered");
+                continue;
+            }
+            if (!automatic) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+
+            VoteTransaction oldest = mempool.peekOldest();
+            if (oldest == null) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            if (mempool.size() >= batchThreshold) {
+                produce(null, "size");
+                continue;
+            }
+            long waitMillis = oldest.getTimestamp() + maxLatencyMillis - System.currentTimeMillis();
+            if (waitMillis <= 0) {
+                produce(null, "latency");
+            } else {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(waitMillis));
+            }
+        }
+        MiningJob job;
+        while ((job = triggeredJobs.poll()) != null) {
+            job.getResult().completeExceptionally(new IllegalStateException("Block producer is shut down"));
+        }
+    }
+
+    private void produce(MiningJob job, String reason) {
+        long start = System.currentTimeMillis();
+        VoteTransaction oldest = mempool.peekOldest();
+        try {
+            Block block = blockchain.minePendingTransactions();
+            if (block != null) {
+                blocksProduced++;
+                lastBlockMillis = System.currentTimeMillis() - start;
+                lastOldestWaitMillis = oldest == null ? 0 : System.currentTimeMillis() - oldest.getTimestamp();
+                lastCutReason = reason;
+                log.info("Block producer cut block {} ({}, {} votes, oldest waited {} ms).",
+                        block.getIndex(), reason, block.getData().size(), lastOldestWaitMillis);
+            }
+            consecutiveFailures = 0;
+            if (job != null) {
+                job.getResult().complete(block);
+            }
+        } catch (RuntimeException e) {
+            consecutiveFailures++;
+            log.error("Block production failed ({} in a row, next attempt in {} ms): {}",
+                    consecutiveFailures, backoffMillis(), e.getMessage());
+            if (job != null) {
+                job.getResult().completeExceptionally(e);
+            }
+            backOff();
+        }
+    }
+
+    private long backoffMillis() {
+        int doublings = Math.min(consecutiveFailures - 1, 20);
+        return Math.min(MIN_BACKOFF_MILLIS << doublings, MAX_BACKOFF_MILLIS);
+    }
+
+    // Waits out the backoff; shutdown cuts it short, other wake-ups do not
+    private void backOff() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis());
+        long remaining;
+        while (running && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    public boolean isAutomatic() {
+        return automatic;
+    }
+
+    public int getBatchThreshold() {
+        return batchThreshold;
+    }
+
+    public long getMaxLatencyMillis() {
+        return maxLatencyMillis;
+    }
+
+    public long getBlocksProduced() {
+        return blocksProduced;
+    }
+
+    public long getLastBlockMillis() {
+        return lastBlockMillis;
+    }
+
+    public long getLastOldestWaitMillis() {
+        return lastOldestWaitMillis;
+    }
+
+    public String getLastCutReason() {
+        return lastCutReason;
+    }
+
+    public int getQueuedJobs() {
+        return triggeredJobs.size();
+    }
+
+    // Lets the block being mined finish, then stops
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(producer);
+        producer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+}
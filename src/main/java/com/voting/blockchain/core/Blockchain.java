@@ -1,255 +1,769 @@
 package com.voting.blockchain.core;
-import com.voting.blockchain.util.CryptoUtil;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
-import java.security.PublicKey;
-import java.security.SignatureException;
-import java.security.spec.InvalidKeySpecException;
 
-
-import java.io.IOException;
-import com.fasterxml.jackson.databind.JsonMappingException;
-
-
-import com.google.cloud.firestore.Firestore; // Import Firestore
-import com.google.cloud.firestore.DocumentReference;
-import com.google.cloud.firestore.WriteBatch;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.api.core.ApiFutures; // For handling Futures
 import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteReceipt;
 import com.voting.blockchain.model.VoteTransaction;
+import com.voting.blockchain.storage.BlockStore;
+import com.voting.blockchain.storage.ChainSnapshot;
+import com.voting.blockchain.storage.MempoolStore;
+import com.voting.blockchain.storage.SnapshotStore;
+import com.voting.blockchain.storage.StorageException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.MessageDigest; // Ensure this is imported for calculateHash
-import java.security.NoSuchAlgorithmException; // Ensure this is imported
+import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Date;
+import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.core.JsonProcessingException; // Ensure this is imported
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 
 @Component
 public class Blockchain {
-    private List<Block> chain;
-    public int difficulty;
-    private List<VoteTransaction> pendingTransactions;
-
-    private final Firestore firestore;
-    private final ObjectMapper objectMapper;
-
-    private static final String APP_ID = "decentralized-voting-app"; // You can change this
-    private static final String BLOCKS_COLLECTION_PATH = "artifacts/" + APP_ID + "/public/data/blocks";
-    private static final String PENDING_TX_COLLECTION_PATH = "artifacts/" + APP_ID + "/public/data/pendingTransactions";
 
+    private static final Logger log = LoggerFactory.getLogger(Blockchain.class);
+
+    // ChainListener source of blocks mined by this node
+    public static final String LOCAL_SOURCE = "local";
+
+    // Replaced, never modified: readers take whichever view is current and keep a consistent chain
+    private volatile ImmutableChain chain = ImmutableChain.empty();
+    private final Map<String, Integer> blockIndexByHash = new ConcurrentHashMap<>();
+    private volatile BigInteger totalWork = BigInteger.ZERO;
+    private final List<ChainListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final BlockStore blockStore;
+    private final MempoolStore mempoolStore;
+    private final SnapshotStore snapshotStore;
+    private final Mempool mempool;
+    private final ParallelMiner miner;
+    private final ChainValidator validator;
+    private final DifficultyRetargeter retargeter;
+    private final TallyIndex tally;
+    private final VoterIndex voterIndex;
+    private final TransactionIndex transactionIndex;
+    private final SignatureVerifier signatureVerifier;
+    private final StorageExecutor storageExecutor;
+    private volatile int lastSnapshotIndex = -1;
+    // Serialises block production, so each block extends the one before it
+    private final Object miningLock = new Object();
+    // Admissions register voters and queue votes under the read lock; a peer block confirms its
+    // voters and an index rebuild runs under the write lock, so neither misses a vote in flight
+    private final ReentrantReadWriteLock admissionLock = new ReentrantReadWriteLock();
+    // Voters registered by admissions whose vote is not in the mempool yet
+    private final Set<String> admittingVoters = ConcurrentHashMap.newKeySet();
+    // One on-demand audit at a time; its verdict is reused for the same tip for a while
+    private final Object auditLock = new Object();
+    private final long auditMinIntervalMillis;
+    private Block lastAuditedTip;
+    private long lastAuditFinishedAt;
+    private boolean lastAuditValid;
+
+    // --- Metrics ---
+    private final Map<String, Timer> admissionTimers = new HashMap<>(); // By outcome
+    private final Timer miningTimer;
+    private final Timer incrementalValidationTimer;
+    private final Timer fullValidationTimer;
+    private final Timer blockAppendTimer;
+    private final Timer blockLoadTimer;
+    private final Timer mempoolSaveTimer;
+    private final Timer mempoolRemoveTimer;
+    private final Timer mempoolLoadTimer;
 
     @Autowired
-    public Blockchain(Firestore firestore) {
-        this.firestore = firestore;
-        this.objectMapper = new ObjectMapper();
-        this.chain = new ArrayList<>();
-        this.difficulty = 4;
-        this.pendingTransactions = Collections.synchronizedList(new ArrayList<>());
-
-        loadBlockchainFromFirestore();
+    public Blockchain(BlockStore blockStore, MempoolStore mempoolStore, SnapshotStore snapshotStore,
+                      Mempool mempool, ParallelMiner miner, ChainValidator validator, DifficultyRetargeter retargeter,
+                      TallyIndex tally, VoterIndex voterIndex, TransactionIndex transactionIndex, SignatureVerifier signatureVerifier,
+                      StorageExecutor storageExecutor, MeterRegistry meterRegistry,
+                      @Value("${blockchain.validation.audit-min-interval-ms:60000}") long auditMinIntervalMillis) {
+        this.blockStore = blockStore;
+        this.mempoolStore = mempoolStore;
+        this.snapshotStore = snapshotStore;
+        this.mempool = mempool;
+        this.miner = miner;
+        this.validator = validator;
+        this.retargeter = retargeter;
+        this.tally = tally;
+        this.voterIndex = voterIndex;
+        this.transactionIndex = transactionIndex;
+        this.signatureVerifier = signatureVerifier;
+        this.storageExecutor = storageExecutor;
+        this.auditMinIntervalMillis = auditMinIntervalMillis;
+
+        for (String outcome : List.of("accepted", "invalid", "duplicate", "full", "overloaded", "error")) {
+            admissionTimers.put(outcome, Timer.builder("blockchain.admission")
+                    .description("Time from receiving a vote until it is durable in the mempool, or rejected")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        this.miningTimer = Timer.builder("blockchain.mining.block")
+                .description("Proof-of-work time per block")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.incrementalValidationTimer = validationTimer(meterRegistry, "incremental");
+        this.fullValidationTimer = validationTimer(meterRegistry, "full");
+        this.blockAppendTimer = storageTimer(meterRegistry, "block", "append");
+        this.blockLoadTimer = storageTimer(meterRegistry, "block", "load");
+        this.mempoolSaveTimer = storageTimer(meterRegistry, "mempool", "save");
+        this.mempoolRemoveTimer = storageTimer(meterRegistry, "mempool", "remove");
+        this.mempoolLoadTimer = storageTimer(meterRegistry, "mempool", "load");
+
+        loadBlockchain();
     }
 
-    private void loadBlockchainFromFirestore() {
-        System.out.println("Attempting to load blockchain from Firestore...");
+    /**
+     * Loads the newest snapshot and replays only the blocks stored after it; without a usable
+     * snapshot every block is loaded and the indexes are rebuilt from scratch. A restored
+     * snapshot is re-verified in the background while the node is already serving.
+     */
+    private void loadBlockchain() {
+        long start = System.currentTimeMillis();
+        ChainSnapshot snapshot = snapshotStore.loadLatest();
+        List<Block> blocksAfterSnapshot = null;
         try {
-            // Load Blocks
-            List<QueryDocumentSnapshot> blockDocuments = firestore.collection(BLOCKS_COLLECTION_PATH)
-                    .orderBy("index")
-                    .get()
-                    .get()
-                    .getDocuments();
-
-            if (!blockDocuments.isEmpty()) {
-                for (QueryDocumentSnapshot document : blockDocuments) {
-                    String dataJson = (String) document.get("dataJson");
-                    List<VoteTransaction> transactions = objectMapper.readValue(dataJson, new TypeReference<List<VoteTransaction>>() {});
-
-                    Block loadedBlock = new Block(
-                            document.getLong("index").intValue(),
-                            document.getString("previousHash"),
-                            transactions
-                    );
-                    loadedBlock.setHash(document.getString("hash"));
-                    loadedBlock.setNonce(document.getLong("nonce").intValue());
-                    loadedBlock.setTimestamp(document.getLong("timestamp"));
-
-                    chain.add(loadedBlock);
+            if (snapshot != null) {
+                blocksAfterSnapshot = restoreSnapshot(snapshot);
+            }
+            if (blocksAfterSnapshot == null) {
+                snapshot = null;
+                log.info("Attempting to load blockchain from {}...", blockStore.getName());
+                long loadStart = System.nanoTime();
+                List<Block> storedBlocks = blockStore.loadFrom(0);
+                blockLoadTimer.record(System.nanoTime() - loadStart, TimeUnit.NANOSECONDS);
+                if (!storedBlocks.isEmpty()) {
+                    storedBlocks.forEach(this::appendBlock);
+                    log.info("Blockchain loaded from {}. Chain length: {}", blockStore.getName(), chain.size());
+                } else {
+                    log.info("No existing blockchain found in {}. Creating genesis block.", blockStore.getName());
                 }
-                System.out.println("Blockchain loaded from Firestore. Chain length: " + chain.size());
-            } else {
-                System.out.println("No existing blockchain found in Firestore. Creating genesis block.");
             }
 
-            // Load Pending Transactions
-            List<QueryDocumentSnapshot> pendingTxDocuments = firestore.collection(PENDING_TX_COLLECTION_PATH)
-                    .get()
-                    .get()
-                    .getDocuments();
-
-            if (!pendingTxDocuments.isEmpty()) {
-                for (QueryDocumentSnapshot document : pendingTxDocuments) {
-                    pendingTransactions.add(document.toObject(VoteTransaction.class));
-                }
-                System.out.println("Pending transactions loaded from Firestore. Count: " + pendingTransactions.size());
+            long loadStart = System.nanoTime();
+            List<VoteTransaction> storedPending = mempoolStore.loadAll();
+            mempoolLoadTimer.record(System.nanoTime() - loadStart, TimeUnit.NANOSECONDS);
+            if (!storedPending.isEmpty()) {
+                mempool.addRecovered(storedPending);
+                log.info("Pending transactions loaded from {}. Count: {}", mempoolStore.getName(), mempool.size());
             }
 
-        } catch (InterruptedException | ExecutionException | IOException e) {
-            System.err.println("Error loading blockchain from Firestore: " + e.getMessage());
+        } catch (StorageException e) {
+            log.error("Error loading blockchain: {}", e.getMessage());
         }
 
         // Ensure genesis block is created if chain is still empty after load (e.g., first run or load failed)
         if (chain.isEmpty()) {
             createGenesisBlock();
         }
+        validator.setBootHeight(chain.size() - 1);
+
+        List<VoteTransaction> pendingTransactions = mempool.snapshot();
+        if (snapshot != null) {
+            tally.restore(snapshot.getConfirmedTally(), blocksAfterSnapshot, pendingTransactions, chain.size() - 1);
+            voterIndex.restore(snapshot.getVoters(), blocksAfterSnapshot, pendingTransactions);
+            verifySnapshotInBackground(snapshot, chain);
+        } else {
+            tally.rebuild(chain, pendingTransactions);
+            voterIndex.rebuild(chain, pendingTransactions);
+        }
+        transactionIndex.rebuild(chain); // Snapshots do not carry it; hashing every vote is parallel
+        log.info("Blockchain ready in {} ms.", System.currentTimeMillis() - start);
+
+        if (snapshotStore.isDue(chain.size() - 1, lastSnapshotIndex)) {
+            takeSnapshot();
+        }
+    }
+
+    // Appends the snapshot's blocks and those stored after it, and returns the latter; returns
+    // null (appending nothing) if the block store no longer agrees with the snapshot
+    private List<Block> restoreSnapshot(ChainSnapshot snapshot) throws StorageException {
+        Block snapshotTip = snapshot.getLastBlock();
+        long loadStart = System.nanoTime();
+        List<Block> stored = blockStore.loadFrom(snapshotTip.getIndex());
+        blockLoadTimer.record(System.nanoTime() - loadStart, TimeUnit.NANOSECONDS);
+        if (stored.isEmpty() || !stored.get(0).getHash().equals(snapshotTip.getHash())) {
+            log.warn("Snapshot at block {} does not match {}; falling back to a full load.",
+                    snapshotTip.getIndex(), blockStore.getName());
+            return null;
+        }
+        List<Block> blocksAfterSnapshot = stored.subList(1, stored.size());
+        snapshot.getBlocks().forEach(this::appendBlock);
+        blocksAfterSnapshot.forEach(this::appendBlock);
+        lastSnapshotIndex = snapshotTip.getIndex();
+        log.info("Restored snapshot at block {} and replayed {} later blocks from {}.",
+                snapshotTip.getIndex(), blocksAfterSnapshot.size(), blockStore.getName());
+        return blocksAfterSnapshot;
+    }
+
+    // Re-checks what startup trusted: every block of the restored chain, and the snapshot's tally
+    // and voter list against its own blocks. Indexes that disagree are rebuilt from the chain.
+    private void verifySnapshotInBackground(ChainSnapshot snapshot, List<Block> restoredChain) {
+        Thread verifier = new Thread(() -> {
+            int snapshotIndex = snapshot.getLastBlock().getIndex();
+            boolean chainValid = fullValidationTimer.record(() -> validator.fullAudit(restoredChain));
+
+            Map<String, Long> expectedTally = new HashMap<>();
+            for (Block block : snapshot.getBlocks()) {
+                if (block.getIndex() > 0) {
+                    for (VoteTransaction transaction : block.getData()) {
+                        expectedTally.merge(transaction.getCandidateId(), 1L, Long::sum);
+                    }
+                }
+            }
+            boolean indexesMatch = expectedTally.equals(snapshot.getConfirmedTally())
+                    && new HashSet<>(snapshot.getVoters()).equals(SnapshotStore.confirmedVoters(snapshot.getBlocks()));
+
+            if (!indexesMatch) {
+                log.warn("Snapshot at block {} has inconsistent indexes; rebuilding them from the chain.", snapshotIndex);
+                rebuildIndexes();
+            }
+            if (chainValid && indexesMatch) {
+                log.info("Snapshot at block {} verified.", snapshotIndex);
+            } else if (!chainValid) {
+                log.error("Snapshot at block {} failed verification: the restored chain is invalid.", snapshotIndex);
+            }
+        }, "snapshot-verifier");
+        verifier.setDaemon(true);
+        verifier.start();
+    }
+
+    // Rebuilds the tally and voter index while the node is live: with mining and admission held
+    // off, so no block, pending vote or registration lands between reading the state and the rebuild
+    private void rebuildIndexes() {
+        synchronized (miningLock) {
+            admissionLock.writeLock().lock();
+            try {
+                List<Block> current = chain;
+                List<VoteTransaction> pendingTransactions = mempool.snapshot();
+                tally.rebuild(current, pendingTransactions);
+                // Voters still being admitted stay registered, or they could vote a second time
+                voterIndex.restore(new ArrayList<>(admittingVoters), current, pendingTransactions);
+            } finally {
+                admissionLock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Hands the current chain and confirmed tally to the snapshot writer thread
+    private void takeSnapshot() {
+        ImmutableChain current = chain;
+        lastSnapshotIndex = current.size() - 1;
+        snapshotStore.writeAsync(current, tally.getConfirmed());
     }
 
     private void createGenesisBlock() {
         List<VoteTransaction> genesisData = new ArrayList<>();
         genesisData.add(new VoteTransaction("system", "genesis_block_creation" , "",""));
-        Block genesisBlock = new Block(0, "0", genesisData);
+        Block genesisBlock = new Block(0, "0", genesisData, retargeter.nextBits(chain));
         mineBlock(genesisBlock);
-        chain.add(genesisBlock);
-        saveBlockToFirestore(genesisBlock);
-        System.out.println("Genesis Block created and saved: " + genesisBlock.getHash());
+        appendBlock(genesisBlock);
+        saveBlock(genesisBlock);
+        log.info("Genesis Block created and saved: {}", genesisBlock.getHash());
+    }
+
+    // Every block enters the in-memory chain through here, so lookup structures stay in step with it.
+    // Only called by the single writer (startup, then the block producer under miningLock).
+    private void appendBlock(Block block) {
+        chain = chain.append(block);
+        blockIndexByHash.put(block.getHash(), block.getIndex());
+        totalWork = totalWork.add(ChainWork.of(block.getDifficultyBits()));
     }
 
     public Block getLatestBlock() {
-        if (chain.isEmpty()) {
+        Block latest = chain.getLast();
+        if (latest == null) {
             throw new IllegalStateException("Blockchain is empty, genesis block not created.");
         }
-        return chain.get(chain.size() - 1);
+        return latest;
+    }
+
+    /**
+     * Admits a vote asynchronously. Cheap checks (required fields, mempool capacity, duplicate
+     * voter) run first on the caller's thread; the signature is then verified on the
+     * SignatureVerifier pool and the vote is persisted through the MempoolStore, under the
+     * StorageExecutor's concurrency limit. The returned
+     * future completes only once the vote is durable, and it is then part of the mempool. It fails
+     * with IllegalArgumentException (or a subclass) if the vote is rejected, with
+     * MempoolFullException if the mempool is at capacity, or with RejectedExecutionException
+     * if the pipeline is saturated.
+     */
+    public CompletableFuture<VoteTransaction> addTransaction(VoteTransaction transaction) {
+        long start = System.nanoTime();
+        return admit(transaction).whenComplete((admitted, error) ->
+                admissionTimers.get(admissionOutcome(error)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
     }
 
-    public void addTransaction(VoteTransaction transaction) {
+    private CompletableFuture<VoteTransaction> admit(VoteTransaction transaction) {
         if (transaction == null || transaction.getVoterId() == null || transaction.getCandidateId() == null) {
-            throw new IllegalArgumentException("Invalid transaction data. Voter ID and Candidate ID are required.");
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Invalid transaction data. Voter ID and Candidate ID are required."));
+        }
+        try {
+            mempool.reserve();
+        } catch (MempoolFullException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        this.pendingTransactions.add(transaction);
-        savePendingTransactionToFirestore(transaction);
-        System.out.println("Transaction added to pending: " + transaction.toString());
+        admissionLock.readLock().lock();
+        try {
+            if (!voterIndex.tryRegister(transaction.getVoterId())) {
+                mempool.release();
+                return CompletableFuture.failedFuture(new DuplicateVoteException(transaction.getVoterId()));
+            }
+            admittingVoters.add(transaction.getVoterId());
+        } finally {
+            admissionLock.readLock().unlock();
+        }
+
+        return signatureVerifier.submit(transaction)
+                .thenCompose(valid -> {
+                    if (!valid) {
+                        throw new IllegalArgumentException("Invalid signature for voter " + transaction.getVoterId());
+                    }
+                    long saveStart = System.nanoTime();
+                    return storageExecutor.callAsync(() -> mempoolStore.save(transaction)).whenComplete((documentId, error) ->
+                            mempoolSaveTimer.record(System.nanoTime() - saveStart, TimeUnit.NANOSECONDS));
+                })
+                .whenComplete((documentId, error) -> {
+                    if (error != null) {
+                        admissionLock.readLock().lock();
+                        try {
+                            admittingVoters.remove(transaction.getVoterId());
+                            voterIndex.unregister(transaction.getVoterId()); // Let the voter retry
+                        } finally {
+                            admissionLock.readLock().unlock();
+                        }
+                        mempool.release();
+                    }
+                })
+                .thenApply(documentId -> {
+                    admissionLock.readLock().lock();
+                    try {
+                        admittingVoters.remove(transaction.getVoterId());
+                        if (transactionIndex.findByVoter(transaction.getVoterId()) == null) {
+                            tally.recordPending(transaction); // Before the vote becomes visible to a block cut
+                            mempool.add(transaction);
+                            return transaction;
+                        }
+                    } finally {
+                        admissionLock.readLock().unlock();
+                    }
+                    // A block from a peer confirmed this voter while the vote was being saved
+                    mempool.release();
+                    removeMinedTransactions(List.of(transaction));
+                    throw new DuplicateVoteException(transaction.getVoterId());
+                });
     }
 
+    private static String admissionOutcome(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause == null) {
+            return "accepted";
+        } else if (cause instanceof MempoolFullException) {
+            return "full"; // Before RejectedExecutionException, which it extends
+        } else if (cause instanceof DuplicateVoteException) {
+            return "duplicate";
+        } else if (cause instanceof IllegalArgumentException) {
+            return "invalid";
+        } else if (cause instanceof RejectedExecutionException) {
+            return "overloaded";
+        }
+        return "error";
+    }
+
+    /**
+     * Cuts the oldest pending votes (up to the per-block limit) out of the mempool and mines
+     * them into the next block. Votes admitted meanwhile stay in the mempool for the next block,
+     * and only the mined votes are removed from storage.
+     */
     public Block minePendingTransactions() {
-        if (pendingTransactions.isEmpty()) {
-            System.out.println("No pending transactions to mine.");
-            return null;
+        Block newBlock = mineNextBlock();
+        if (newBlock != null) {
+            notifyListeners(List.of(newBlock), List.of(), LOCAL_SOURCE);
         }
+        return newBlock;
+    }
 
-        Block newBlock = new Block(
-                chain.size(),
-                getLatestBlock().getHash(),
-                new ArrayList<>(this.pendingTransactions)
-        );
+    private Block mineNextBlock() {
+        synchronized (miningLock) {
+            List<VoteTransaction> cut = mempool.cut();
+            if (cut.isEmpty()) {
+                log.debug("No pending transactions to mine.");
+                return null;
+            }
 
-        mineBlock(newBlock);
-        chain.add(newBlock);
-        saveBlockToFirestore(newBlock);
+            ImmutableChain current = chain;
+            Block newBlock = new Block(current.size(), current.getLast().getHash(), cut, retargeter.nextBits(current));
+            try {
+                mineBlock(newBlock);
+            } catch (RuntimeException e) {
+                mempool.putBack(cut); // Nothing was produced; the votes stay pending
+                throw e;
+            }
+            appendBlock(newBlock);
+            tally.recordConfirmed(newBlock);
+            transactionIndex.recordConfirmed(newBlock);
+            tally.removePending(cut);
+            saveBlock(newBlock);
+            if (snapshotStore.isDue(newBlock.getIndex(), lastSnapshotIndex)) {
+                takeSnapshot();
+            }
 
-        clearPendingTransactionsInFirestore();
-        this.pendingTransactions.clear();
-        System.out.println("New Block mined, added, and saved: " + newBlock.getHash());
-        return newBlock;
+            removeMinedTransactions(cut);
+            log.info("New Block mined, added, and saved: {} ({} votes, {} still pending)",
+                    newBlock.getHash(), cut.size(), mempool.size());
+            return newBlock;
+        }
     }
 
     private void mineBlock(Block block) {
-        String targetPrefix = new String(new char[difficulty]).replace('\0', '0');
-        while (!block.getHash().substring(0, difficulty).equals(targetPrefix)) {
-            block.setNonce(block.getNonce() + 1);
-            block.setHash(block.calculateHash());
-        }
-        System.out.println("Block Mined: " + block.getHash() + " (nonce: " + block.getNonce() + ")");
+        miningTimer.record(() -> miner.mine(block));
+        log.debug("Block Mined: {} (nonce: {}, {} bits, {} H/s on {} threads)",
+                block.getHash(), block.getNonce(), block.getDifficultyBits(), Math.round(miner.getLastHashRate()), miner.getThreadCount());
     }
 
-    public boolean isChainValid() {
-        for (int i = 1; i < chain.size(); i++) {
-            Block currentBlock = chain.get(i);
-            Block previousBlock = chain.get(i - 1);
+    // --- Blocks from peers ---
 
-            if (!currentBlock.getHash().equals(currentBlock.calculateHash())) {
-                System.out.println("Chain Invalid: Current block hash mismatch at index " + currentBlock.getIndex());
-                return false;
-            }
+    /**
+     * Appends a block received from a peer if it extends the current tip and is valid.
+     * @return false if it does not connect to the tip (the caller should sync instead) or is invalid
+     */
+    public boolean tryAppendPeerBlock(Block block, String source) {
+        ImmutableChain current = chain;
+        if (block.getIndex() != current.size() || !block.getPreviousHash().equals(current.getLast().getHash())) {
+            return false;
+        }
+        // Not current.append(block): a rejected block would stay in the storage our next block goes to
+        List<Block> candidate = current.followedBy(List.of(block));
+        return validator.validateRange(candidate, block.getIndex(), voterId -> isVoterConfirmed(voterId, block.getIndex() - 1))
+                && adoptFork(candidate, block.getIndex() - 1, source);
+    }
 
-            if (!currentBlock.getPreviousHash().equals(previousBlock.getHash())) {
-                System.out.println("Chain Invalid: Previous hash mismatch at index " + currentBlock.getIndex());
+    /**
+     * Switches to a candidate chain that shares this chain's blocks up to forkIndex, if the
+     * candidate's blocks after that carry more cumulative work than ours (ties keep our chain).
+     * The candidate's blocks after forkIndex must already have been validated; whether their voters
+     * have voted before is checked here again, against the chain as it is under the lock.
+     *
+     * Our blocks after forkIndex are dropped. Their votes go back to the mempool, unless the new
+     * blocks already confirm the same voters; pending votes by voters the new blocks confirm are
+     * dropped too. A forkIndex of -1 replaces the whole chain, which is only allowed while this
+     * node has nothing but its own genesis block (a fresh node joining an existing network).
+     *
+     * @return false if the candidate no longer applies (our chain changed meanwhile) or is not heavier
+     */
+    public boolean adoptFork(List<Block> candidate, int forkIndex, String source) {
+        List<Block> added;
+        List<Block> removed;
+        synchronized (miningLock) {
+            ImmutableChain current = chain;
+            boolean connects = forkIndex == -1
+                    ? current.size() == 1
+                    : forkIndex < current.size() && forkIndex < candidate.size()
+                            && current.get(forkIndex).getHash().equals(candidate.get(forkIndex).getHash());
+            if (!connects || ChainWork.of(candidate, forkIndex + 1).compareTo(ChainWork.of(current, forkIndex + 1)) <= 0) {
                 return false;
             }
+            // Blocks we appended since the caller found its fork point may be the candidate's own
+            while (forkIndex + 1 < current.size() && forkIndex + 1 < candidate.size()
+                    && current.get(forkIndex + 1).getHash().equals(candidate.get(forkIndex + 1).getHash())) {
+                forkIndex++;
+            }
+            removed = new ArrayList<>(current.subList(forkIndex + 1, current.size()));
+            added = new ArrayList<>(candidate.subList(forkIndex + 1, candidate.size()));
+
+            Set<String> confirmedVoters = new HashSet<>();
+            for (Block block : added) {
+                if (block.getIndex() > 0) {
+                    for (VoteTransaction transaction : block.getData()) {
+                        if (!confirmedVoters.add(transaction.getVoterId()) || isVoterConfirmed(transaction.getVoterId(), forkIndex)) {
+                            log.warn("Rejected blocks from {}: voter {} votes more than once.", source, transaction.getVoterId());
+                            return false;
+                        }
+                    }
+                }
+            }
+            // With nothing replaced the prefix is our chain itself, so the new blocks continue its
+            // storage; only a real fork copies the blocks it keeps
+            ImmutableChain replacement = current.prefix(forkIndex + 1);
+            for (Block block : added) {
+                replacement = replacement.append(block);
+            }
 
-            String targetPrefix = new String(new char[difficulty]).replace('\0', '0');
-            if (!currentBlock.getHash().substring(0, difficulty).equals(targetPrefix)) {
-                System.out.println("Chain Invalid: Block hash does not meet difficulty at index " + currentBlock.getIndex());
-                return false;
+            List<VoteTransaction> orphaned = new ArrayList<>();
+            for (int i = removed.size() - 1; i >= 0; i--) {
+                tally.removeConfirmed(removed.get(i)); // Newest first, so the tally's block watermark ends at forkIndex
+            }
+            for (Block block : removed) {
+                blockIndexByHash.remove(block.getHash());
+                transactionIndex.removeConfirmed(block);
+                if (block.getIndex() > 0) {
+                    for (VoteTransaction transaction : block.getData()) {
+                        if (!confirmedVoters.contains(transaction.getVoterId())) {
+                            orphaned.add(transaction);
+                        }
+                    }
+                }
+            }
+            List<VoteTransaction> superseded;
+            admissionLock.writeLock().lock();
+            try {
+                superseded = mempool.removeVoters(confirmedVoters);
+                tally.removePending(superseded);
+
+                chain = replacement;
+                totalWork = totalWork.subtract(ChainWork.of(removed, 0)).add(ChainWork.of(added, 0));
+                for (Block block : added) {
+                    blockIndexByHash.put(block.getHash(), block.getIndex());
+                    tally.recordConfirmed(block);
+                    voterIndex.recordConfirmed(block);
+                    transactionIndex.recordConfirmed(block);
+                }
+            } finally {
+                admissionLock.writeLock().unlock();
+            }
+            mempool.putBack(orphaned);
+            orphaned.forEach(tally::recordPending);
+            validator.rewind(forkIndex);
+            lastSnapshotIndex = Math.min(lastSnapshotIndex, forkIndex);
+
+            persistFork(forkIndex, added, removed, superseded, orphaned);
+            if (snapshotStore.isDue(replacement.size() - 1, lastSnapshotIndex)) {
+                takeSnapshot();
+            }
+            if (removed.isEmpty()) {
+                log.info("Appended {} block(s) from {}; chain length {}.", added.size(), source, replacement.size());
+            } else {
+                log.warn("Switched to a heavier fork from {} at block {}: {} block(s) replaced by {}, {} vote(s) back in the mempool.",
+                        source, forkIndex, removed.size(), added.size(), orphaned.size());
             }
         }
+        notifyListeners(added, removed, source);
         return true;
     }
 
-    public List<Block> getChain() {
+    // Brings storage in line with an adopted fork: replaced blocks out, new blocks in, mempool store updated
+    private void persistFork(int forkIndex, List<Block> added, List<Block> removed,
+                             List<VoteTransaction> superseded, List<VoteTransaction> orphaned) {
+        if (!removed.isEmpty()) {
+            try {
+                storageExecutor.call(() -> {
+                    blockStore.truncate(forkIndex + 1);
+                    return null;
+                });
+            } catch (StorageException e) {
+                log.error("Error removing replaced blocks from {}: {}", blockStore.getName(), e.getMessage());
+            }
+        }
+        added.forEach(this::saveBlock);
+        if (!superseded.isEmpty()) {
+            removeMinedTransactions(superseded);
+        }
+        for (VoteTransaction transaction : orphaned) {
+            storageExecutor.callAsync(() -> mempoolStore.save(transaction)).whenComplete((documentId, error) -> {
+                if (error != null) {
+                    log.error("Error saving returned vote of {}: {}", transaction.getVoterId(), error.getMessage());
+                }
+            });
+        }
+    }
+
+    // --- Listeners ---
+
+    public void addChainListener(ChainListener listener) {
+        listeners.add(listener);
+    }
+
+    private void notifyListeners(List<Block> added, List<Block> removed, String source) {
+        for (ChainListener listener : listeners) {
+            try {
+                listener.onChainUpdated(added, removed, source);
+            } catch (RuntimeException e) {
+                log.error("Chain listener failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    // Cheap on repeated calls: only blocks appended since the last check are re-hashed
+    public boolean isChainValid() {
+        return incrementalValidationTimer.record(() -> validator.validateIncremental(chain));
+    }
+
+    /**
+     * Re-verifies every block in parallel, regardless of what has been verified before. Callers
+     * arriving during an audit wait for it, and an audit of the same tip less than
+     * audit-min-interval-ms ago is answered with its verdict instead of running again.
+     */
+    public boolean auditChain() {
+        synchronized (auditLock) {
+            ImmutableChain current = chain;
+            if (current.getLast() == lastAuditedTip && System.currentTimeMillis() - lastAuditFinishedAt < auditMinIntervalMillis) {
+                return lastAuditValid;
+            }
+            lastAuditValid = fullValidationTimer.record(() -> validator.fullAudit(current));
+            lastAuditedTip = current.getLast();
+            lastAuditFinishedAt = System.currentTimeMillis();
+            return lastAuditValid;
+        }
+    }
+
+    // Leading zero bits the next block's hash will need
+    public int getNextDifficultyBits() {
+        return retargeter.nextBits(chain);
+    }
+
+    public DifficultyRetargeter getRetargeter() {
+        return retargeter;
+    }
+
+    public TallyIndex getTally() {
+        return tally;
+    }
+
+    public MempoolStore getMempoolStore() {
+        return mempoolStore;
+    }
+
+    public VoterIndex getVoterIndex() {
+        return voterIndex;
+    }
+
+    public ChainValidator getValidator() {
+        return validator;
+    }
+
+    // Immutable view of the chain as of this call; later blocks do not show up in it
+    public ImmutableChain getChain() {
         return chain;
     }
 
-    public List<VoteTransaction> getPendingTransactions() {
-        return pendingTransactions;
+    // Returns the block at the given index, or null if the chain is not that long
+    public Block getBlock(int index) {
+        ImmutableChain current = chain;
+        if (index < 0 || index >= current.size()) {
+            return null;
+        }
+        return current.get(index);
     }
 
-    // --- Firestore Helper Methods ---
+    // Returns the block with the given hash, or null if no block in the chain has it
+    public Block getBlockByHash(String hash) {
+        Integer index = blockIndexByHash.get(hash);
+        return index == null ? null : getBlock(index);
+    }
 
-    private void saveBlockToFirestore(Block block) {
-        try {
-            String dataJson = objectMapper.writeValueAsString(block.getData());
+    public int getChainLength() {
+        return chain.size();
+    }
 
-            java.util.Map<String, Object> blockMap = new java.util.HashMap<>();
-            blockMap.put("index", block.getIndex());
-            blockMap.put("timestamp", block.getTimestamp());
-            blockMap.put("previousHash", block.getPreviousHash());
-            blockMap.put("hash", block.getHash());
-            blockMap.put("nonce", block.getNonce());
-            blockMap.put("dataJson", dataJson); // Store transactions as JSON string
+    // True if one of our blocks up to maxBlockIndex holds a vote by the voter
+    public boolean isVoterConfirmed(String voterId, int maxBlockIndex) {
+        TransactionIndex.Location location = transactionIndex.findByVoter(voterId);
+        return location != null && location.getBlockIndex() <= maxBlockIndex;
+    }
+
+    // Receipt for the confirmed vote with the given transaction ID, or null if it is not on the chain
+    public VoteReceipt findReceiptByTxId(String txId) {
+        return receipt(transactionIndex.findByTxId(txId), txId, null);
+    }
+
+    // Receipt for the voter's confirmed vote, or null if none is on the chain (it may still be pending)
+    public VoteReceipt findReceiptByVoter(String voterId) {
+        return receipt(transactionIndex.findByVoter(voterId), null, voterId);
+    }
 
-            firestore.collection(BLOCKS_COLLECTION_PATH)
-                    .document(String.valueOf(block.getIndex()))
-                    .set(blockMap)
-                    .get();
-            System.out.println("Block " + block.getIndex() + " saved to Firestore.");
-        } catch (InterruptedException | ExecutionException | JsonProcessingException e) { // Catch JsonProcessingException
-            System.err.println("Error saving block to Firestore: " + e.getMessage());
+    // Checks the indexed location against one chain view, in case a fork replaced that block meanwhile
+    private VoteReceipt receipt(TransactionIndex.Location location, String txId, String voterId) {
+        ImmutableChain current = chain;
+        if (location == null || location.getBlockIndex() >= current.size()) {
+            return null;
+        }
+        Block block = current.get(location.getBlockIndex());
+        if (location.getPosition() >= block.getData().size()) {
+            return null;
         }
+        VoteTransaction transaction = block.getData().get(location.getPosition());
+        String actualTxId = transaction.calculateTxId();
+        if ((txId != null && !txId.equals(actualTxId)) || (voterId != null && !voterId.equals(transaction.getVoterId()))) {
+            return null;
+        }
+        return new VoteReceipt(actualTxId, transaction, block, location.getPosition(), current.size());
+    }
+
+    // Sum of 2^difficulty-bits over every block: what fork choice compares
+    public BigInteger getTotalWork() {
+        return totalWork;
+    }
+
+    // Point-in-time copy of the mempool, oldest first
+    public List<VoteTransaction> getPendingTransactions() {
+        return mempool.snapshot();
+    }
+
+    public Mempool getMempool() {
+        return mempool;
     }
 
-    private void savePendingTransactionToFirestore(VoteTransaction transaction) {
+    // --- Storage Helper Methods ---
+
+    private void saveBlock(Block block) {
         try {
-            firestore.collection(PENDING_TX_COLLECTION_PATH)
-                    .add(transaction)
-                    .get();
-            System.out.println("Pending transaction saved to Firestore.");
-        } catch (InterruptedException | ExecutionException e) {
-            System.err.println("Error saving pending transaction to Firestore: " + e.getMessage());
+            long start = System.nanoTime();
+            storageExecutor.call(() -> {
+                blockStore.append(block);
+                return null;
+            });
+            blockAppendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("Block {} saved to {}.", block.getIndex(), blockStore.getName());
+        } catch (StorageException e) {
+            log.error("Error saving block: {}", e.getMessage());
         }
     }
 
-    private void clearPendingTransactionsInFirestore() {
+    // Only the votes that went into the block: votes admitted while it was being mined stay pending
+    private void removeMinedTransactions(List<VoteTransaction> minedTransactions) {
         try {
-            WriteBatch batch = firestore.batch();
-            firestore.collection(PENDING_TX_COLLECTION_PATH)
-                    .get()
-                    .get()
-                    .getDocuments()
-                    .forEach(doc -> batch.delete(doc.getReference()));
-            batch.commit().get();
-            System.out.println("Cleared all pending transactions from Firestore.");
-        } catch (InterruptedException | ExecutionException e) {
-            System.err.println("Error clearing pending transactions from Firestore: " + e.getMessage());
-        }
-    }
-}
\ No newline at end of file
+            long start = System.nanoTime();
+            storageExecutor.call(() -> {
+                mempoolStore.remove(minedTransactions);
+                return null;
+            });
+            mempoolRemoveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.debug("Removed {} mined transactions from {}.", minedTransactions.size(), mempoolStore.getName());
+        } catch (StorageException e) {
+            log.error("Error removing mined transactions: {}", e.getMessage());
+        }
+    }
+
+    // --- Metrics Helper Methods ---
+
+    private static Timer validationTimer(MeterRegistry registry, String mode) {
+        return Timer.builder("blockchain.validation")
+                .description("Chain validation time")
+                .tag("mode", mode)
+                .register(registry);
+    }
+
+    // Latency of one storage call, whichever BlockStore/MempoolStore implementation is configured
+    private static Timer storageTimer(MeterRegistry registry, String store, String operation) {
+        return Timer.builder("blockchain.storage")
+                .description("Storage operation latency")
+                .tag("store", store)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,22 @@
+// src/main/java/com/voting/blockchain/core/ChainListener.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+
+import java.util.List;
+
+/**
+ * Told about every change to the chain: a block mined here, or blocks adopted from a peer.
+ * Called on the thread that changed the chain once the new chain is visible, so implementations
+ * should hand anything slow off to a thread of their own.
+ */
+@FunctionalInterface
+public interface ChainListener {
+
+    /**
+     * @param added Blocks now at the tip, in index order
+     * @param removed Blocks a heavier fork replaced, in index order; empty when the chain just grew
+     * @param source Blockchain.LOCAL_SOURCE for blocks mined here, otherwise the peer they came from
+     */
+    void onChainUpdated(List<Block> added, List<Block> removed, String source);
+}
@@ -0,0 +1,251 @@
+// src/main/java/com/voting/blockchain/core/ChainValidator.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockHasher;
+import com.voting.blockchain.model.VoteTransaction;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Validates the chain incrementally. Blocks up to the "verified up to" watermark have already
+ * been checked, so a read only has to look at blocks appended since the last call and otherwise
+ * serves the cached verdict. A full re-audit of every block can be requested explicitly and is
+ * spread over a dedicated fork-join pool.
+ *
+ * Each block's hash must have the leading zero bits recorded in the block, and from version 4 on
+ * that recorded difficulty must be the one the DifficultyRetargeter derives from earlier blocks.
+ * Older blocks keep the fixed difficulty they were mined at, so they stay verifiable. Versions
+ * never go down along the chain, and every block above the height the node booted with must be
+ * of the current version, so a new block cannot claim an older version to skip the retargeting.
+ *
+ * When signature checking is enabled, every vote in a block must also carry a valid signature.
+ * New blocks fan their signatures out over the SignatureVerifier pool; during a full audit each
+ * audit worker verifies its own blocks' signatures inline, since the blocks are already parallel.
+ */
+@Component
+public class ChainValidator {
+
+    private static final Logger log = LoggerFactory.getLogger(ChainValidator.class);
+
+    private final ForkJoinPool auditPool;
+    private final SignatureVerifier signatureVerifier;
+    private final DifficultyRetargeter retargeter;
+    private final boolean verifySignatures;
+
+    // Highest block index known to link correctly to its predecessor; the genesis block is trusted
+    private int verifiedUpTo = 0;
+    private boolean valid = true;
+    private int firstInvalidIndex = -1;
+    private long lastAuditMillis;
+    // Tip index of the chain loaded at startup; until it is known every version is accepted
+    private volatile int bootHeight = Integer.MAX_VALUE;
+
+    public ChainValidator(SignatureVerifier signatureVerifier, DifficultyRetargeter retargeter,
+                          @Value("${blockchain.validation.threads:0}") int configuredThreads,
+                          @Value("${blockchain.validation.verify-signatures:true}") boolean verifySignatures) {
+        this.signatureVerifier = signatureVerifier;
+        this.retargeter = retargeter;
+        this.verifySignatures = verifySignatures;
+        int threads = configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+        this.auditPool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Checks only the blocks appended since the previous call and returns the overall verdict.
+     * Once an invalid block has been seen the chain stays invalid until a full audit passes.
+     */
+    public synchronized boolean validateIncremental(List<Block> chain) {
+        int size = chain.size();
+        while (valid && verifiedUpTo + 1 < size) {
+            int next = verifiedUpTo + 1;
+            Block block = chain.get(next);
+            if (!isBlockValid(chain, next)
+                    || (verifySignatures && !signaturesValidParallel(block))) {
+                valid = false;
+                firstInvalidIndex = next;
+                break;
+            }
+            verifiedUpTo = next;
+        }
+        return valid;
+    }
+
+    /**
+     * Re-checks every block in parallel, ignoring the watermark, and resets the cached state
+     * to the result.
+     */
+    public boolean fullAudit(List<Block> chain) {
+        int size = chain.size();
+        long start = System.currentTimeMillis();
+        OptionalInt firstInvalid = findFirstInvalid(chain, 1);
+
+        synchronized (this) {
+            lastAuditMillis = System.currentTimeMillis() - start;
+            if (firstInvalid.isPresent()) {
+                valid = false;
+                firstInvalidIndex = firstInvalid.getAsInt();
+                verifiedUpTo = firstInvalidIndex - 1;
+            } else {
+                valid = true;
+                firstInvalidIndex = -1;
+                verifiedUpTo = size - 1;
+            }
+            log.info("Full chain audit of {} blocks finished in {} ms. Valid: {}", size, lastAuditMillis, valid);
+            return valid;
+        }
+    }
+
+    /**
+     * Checks the blocks from fromIndex to the end of a candidate chain (such as a fork received
+     * from a peer) in parallel, without touching the cached state. Blocks before fromIndex are
+     * taken as valid. Also requires every block to sit at the position its index claims, and every
+     * voter in the range to vote once: not twice in the range, and not if confirmedBefore says an
+     * earlier block of the candidate already has their vote. Our own chain is not held to that
+     * (it may hold duplicates stored before they were rejected), but nothing new may add one.
+     */
+    public boolean validateRange(List<Block> chain, int fromIndex, Predicate<String> confirmedBefore) {
+        Set<String> voters = new HashSet<>();
+        for (int i = Math.max(1, fromIndex); i < chain.size(); i++) {
+            Block block = chain.get(i);
+            if (block.getIndex() != i) {
+                log.warn("Chain Invalid: Block at position {} claims index {}", i, block.getIndex());
+                return false;
+            }
+            for (VoteTransaction transaction : block.getData()) {
+                if (!voters.add(transaction.getVoterId()) || confirmedBefore.test(transaction.getVoterId())) {
+                    log.warn("Chain Invalid: Voter {} votes again in block {}", transaction.getVoterId(), i);
+                    return false;
+                }
+            }
+        }
+        return findFirstInvalid(chain, Math.max(1, fromIndex)).isEmpty();
+    }
+
+    // Forgets everything verified so far, e.g. after the chain has been replaced
+    public synchronized void reset() {
+        verifiedUpTo = 0;
+        valid = true;
+        firstInvalidIndex = -1;
+    }
+
+    // Forgets what was verified beyond the given block, after the blocks above it were replaced
+    public synchronized void rewind(int lastKeptIndex) {
+        verifiedUpTo = Math.min(verifiedUpTo, Math.max(0, lastKeptIndex));
+        if (firstInvalidIndex > lastKeptIndex) {
+            valid = true;
+            firstInvalidIndex = -1;
+        }
+    }
+
+    private OptionalInt findFirstInvalid(List<Block> chain, int fromIndex) {
+        try {
+            return auditPool.submit(() -> IntStream.range(fromIndex, chain.size())
+                    .parallel()
+                    .filter(i -> !isBlockValid(chain, i)
+                            || (verifySignatures && !signaturesValidInline(chain.get(i))))
+                    .min()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Chain audit was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Chain audit failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private boolean signaturesValidParallel(Block block) {
+        if (!signatureVerifier.verifyBlock(block)) {
+            log.warn("Chain Invalid: Bad signature in block {}", block.getIndex());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean signaturesValidInline(Block block) {
+        if (block.getIndex() == 0) {
+            return true; // Unsigned genesis marker
+        }
+        for (VoteTransaction transaction : block.getData()) {
+            if (!signatureVerifier.verifyTransaction(transaction)) {
+                log.warn("Chain Invalid: Bad signature in block {}", block.getIndex());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isBlockValid(List<Block> chain, int index) {
+        Block currentBlock = chain.get(index);
+        Block previousBlock = chain.get(index - 1);
+        byte[] hashBytes = currentBlock.calculateHashBytes();
+        if (!currentBlock.getHash().equals(BlockHasher.toHex(hashBytes))) {
+            log.warn("Chain Invalid: Current block hash mismatch at index {}", currentBlock.getIndex());
+            return false;
+        }
+
+        if (currentBlock.getVersion() >= Block.MERKLE_VERSION
+                && !currentBlock.calculateMerkleRoot().equals(currentBlock.getMerkleRoot())) {
+            log.warn("Chain Invalid: Merkle root mismatch at index {}", currentBlock.getIndex());
+            return false;
+        }
+
+        if (!currentBlock.getPreviousHash().equals(previousBlock.getHash())) {
+            log.warn("Chain Invalid: Previous hash mismatch at index {}", currentBlock.getIndex());
+            return false;
+        }
+
+        if (currentBlock.getVersion() < previousBlock.getVersion()
+                || (index > bootHeight && currentBlock.getVersion() != Block.CURRENT_VERSION)) {
+            log.warn("Chain Invalid: Unexpected block version {} at index {}", currentBlock.getVersion(), currentBlock.getIndex());
+            return false;
+        }
+
+        if (currentBlock.getVersion() >= Block.DIFFICULTY_VERSION
+                && currentBlock.getDifficultyBits() != retargeter.requiredBits(chain, index)) {
+            log.warn("Chain Invalid: Unexpected difficulty at index {}", currentBlock.getIndex());
+            return false;
+        }
+
+        if (!BlockHasher.hasLeadingZeroBits(hashBytes, currentBlock.getDifficultyBits())) {
+            log.warn("Chain Invalid: Block hash does not meet difficulty at index {}", currentBlock.getIndex());
+            return false;
+        }
+        return true;
+    }
+
+    // Called once the stored chain is loaded; blocks above it must be of Block.CURRENT_VERSION
+    public void setBootHeight(int bootHeight) {
+        this.bootHeight = bootHeight;
+    }
+
+    // --- Cached state ---
+
+    public synchronized int getVerifiedUpTo() {
+        return verifiedUpTo;
+    }
+
+    public synchronized int getFirstInvalidIndex() {
+        return firstInvalidIndex;
+    }
+
+    public synchronized long getLastAuditMillis() {
+        return lastAuditMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        auditPool.shutdownNow();
+    }
+}
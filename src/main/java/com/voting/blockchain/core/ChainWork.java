@@ -0,0 +1,31 @@
+// src/main/java/com/voting/blockchain/core/ChainWork.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Expected proof-of-work behind blocks: a block whose hash needs d leading zero bits took 2^d
+ * hashes on average. Fork choice prefers the chain with the most cumulative work, not simply the
+ * longest one, so a long run of cheap blocks cannot outweigh fewer hard ones.
+ */
+public final class ChainWork {
+
+    private ChainWork() {
+    }
+
+    public static BigInteger of(int difficultyBits) {
+        return BigInteger.ONE.shiftLeft(difficultyBits);
+    }
+
+    // Total work of chain.get(fromIndex) .. the end of the chain
+    public static BigInteger of(List<Block> chain, int fromIndex) {
+        BigInteger work = BigInteger.ZERO;
+        for (int i = Math.max(0, fromIndex); i < chain.size(); i++) {
+            work = work.add(of(chain.get(i).getDifficultyBits()));
+        }
+        return work;
+    }
+}
@@ -0,0 +1,105 @@
+// src/main/java/com/voting/blockchain/core/DifficultyRetargeter.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Decides how many leading zero bits each block's hash must have. Every block inherits the
+ * difficulty of the block before it, except at every retarget-window-th height: there the time
+ * the last window of blocks took is compared with the configured block interval, and the
+ * difficulty moves by one bit (a factor of two in expected work) for every doubling the window
+ * was too fast or too slow, at most max-adjust-bits per retarget and within [min-bits, max-bits].
+ * Windows within a factor of two of the target leave the difficulty unchanged, so it does not
+ * oscillate around the target.
+ *
+ * The rule only depends on earlier blocks' timestamps and difficulties, so every node computes
+ * the same value and the validator can check it. The settings are therefore part of the chain's
+ * rules: all nodes must use the same values, and they must not change over the chain's life.
+ */
+@Component
+public class DifficultyRetargeter {
+
+    private final int initialBits;
+    private final long targetBlockMillis;
+    private final int window;
+    private final int maxAdjustBits;
+    private final int minBits;
+    private final int maxBits;
+
+    @Autowired
+    public DifficultyRetargeter(@Value("${blockchain.difficulty.initial-bits:16}") int initialBits,
+                                @Value("${blockchain.difficulty.target-block-interval-ms:2000}") long targetBlockMillis,
+                                @Value("${blockchain.difficulty.retarget-window:20}") int window,
+                                @Value("${blockchain.difficulty.max-adjust-bits:2}") int maxAdjustBits,
+                                @Value("${blockchain.difficulty.min-bits:8}") int minBits,
+                                @Value("${blockchain.difficulty.max-bits:48}") int maxBits) {
+        if (window < 2) {
+            throw new IllegalArgumentException("Retarget window must span at least 2 blocks");
+        }
+        if (minBits < 0 || maxBits > 256 || minBits > maxBits) {
+            throw new IllegalArgumentException("Difficulty bounds must satisfy 0 <= min-bits <= max-bits <= 256");
+        }
+        this.initialBits = clamp(initialBits, minBits, maxBits);
+        this.targetBlockMillis = Math.max(1, targetBlockMillis);
+        this.window = window;
+        this.maxAdjustBits = Math.max(0, maxAdjustBits);
+        this.minBits = minBits;
+        this.maxBits = maxBits;
+    }
+
+    // Difficulty of the block that would be appended to the given chain next
+    public int nextBits(List<Block> chain) {
+        return requiredBits(chain, chain.size());
+    }
+
+    /**
+     * Difficulty the block at the given height must have, judged only by the blocks before it
+     * (chain.get(0) .. chain.get(height - 1)).
+     */
+    public int requiredBits(List<Block> chain, int height) {
+        if (height == 0) {
+            return initialBits;
+        }
+        int previousBits = chain.get(height - 1).getDifficultyBits();
+        if (height < window || height % window != 0) {
+            return previousBits;
+        }
+        long actualMillis = Math.max(1, chain.get(height - 1).getTimestamp() - chain.get(height - window).getTimestamp());
+        long expectedMillis = targetBlockMillis * (window - 1);
+        return clamp(previousBits + adjustment(actualMillis, expectedMillis), minBits, maxBits);
+    }
+
+    // Whole doublings between the actual and expected window time: positive if blocks came too fast
+    private int adjustment(long actualMillis, long expectedMillis) {
+        int bits = 0;
+        while (bits < maxAdjustBits && actualMillis <= expectedMillis >> (bits + 1)) {
+            bits++;
+        }
+        if (bits > 0) {
+            return bits;
+        }
+        while (bits > -maxAdjustBits && actualMillis >> (-bits + 1) >= expectedMillis) {
+            bits--;
+        }
+        return bits;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    // --- Settings ---
+
+    public long getTargetBlockMillis() {
+        return targetBlockMillis;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+}
@@ -0,0 +1,12 @@
+// src/main/java/com/voting/blockchain/core/DuplicateVoteException.java
+package com.voting.blockchain.core;
+
+// Thrown when a voter who already has a confirmed or pending vote tries to vote again
+public class DuplicateVoteException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateVoteException(String voterId) {
+        super("Voter " + voterId + " has already voted.");
+    }
+}
@@ -0,0 +1,151 @@
+// src/main/java/com/voting/blockchain/core/ImmutableChain.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, point-in-time view of the chain that is cheap to extend. append() returns a new
+ * view one block longer and leaves this one untouched, so Blockchain can publish every new tip
+ * through a volatile field and readers need neither locks nor copies: whatever view they
+ * picked up stays consistent however many blocks are appended meanwhile.
+ *
+ * Views of one line of appends share their storage: blocks live in fixed-size chunks that are
+ * written once and never moved, and each view only remembers how many of them it covers. An
+ * append costs O(1), growing the chunk table now and then. Appending to a view that is no
+ * longer the newest (a fork) copies its blocks into fresh storage first, so existing views never
+ * change. Blocks that may yet be rejected, such as a peer's, are checked through followedBy(),
+ * which writes nothing; appending them would leave the chain's next own append to copy it.
+ */
+public final class ImmutableChain extends AbstractList<Block> implements RandomAccess {
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final ImmutableChain EMPTY = new ImmutableChain(null, new Block[0][], 0);
+
+    // Slots filled so far in one shared storage; appends lock on it
+    private static final class Storage {
+        private int written;
+    }
+
+    private final Storage storage;
+    // Captured when the view is created; chunks this view covers are never written again
+    private final Block[][] chunks;
+    private final int size;
+
+    private ImmutableChain(Storage storage, Block[][] chunks, int size) {
+        this.storage = storage;
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    public static ImmutableChain empty() {
+        return EMPTY;
+    }
+
+    public static ImmutableChain of(Iterable<Block> blocks) {
+        ImmutableChain chain = EMPTY;
+        for (Block block : blocks) {
+            chain = chain.append(block);
+        }
+        return chain;
+    }
+
+    /**
+     * Returns a view with the block added after this view's last block. This view is unchanged.
+     */
+    public ImmutableChain append(Block block) {
+        if (storage == null) {
+            return new ImmutableChain(new Storage(), new Block[4][], 0).append(block);
+        }
+        synchronized (storage) {
+            if (storage.written != size) {
+                return forkAppend(block);
+            }
+            Block[][] table = chunks;
+            int chunk = size >>> CHUNK_BITS;
+            if (chunk == table.length) {
+                table = Arrays.copyOf(table, table.length * 2);
+            }
+            if (table[chunk] == null) {
+                table[chunk] = new Block[CHUNK_SIZE];
+            }
+            table[chunk][size & CHUNK_MASK] = block;
+            storage.written = size + 1;
+            return new ImmutableChain(storage, table, size + 1);
+        }
+    }
+
+    // Another view already continued this storage past our end: start over in storage of our own
+    private ImmutableChain forkAppend(Block block) {
+        ImmutableChain copy = EMPTY;
+        for (int i = 0; i < size; i++) {
+            copy = copy.append(get(i));
+        }
+        return copy.append(block);
+    }
+
+    /**
+     * The first `length` blocks of this view, sharing its storage. Appending to the prefix
+     * copies it (see above), so it is the starting point for adopting a fork.
+     */
+    public ImmutableChain prefix(int length) {
+        if (length < 0 || length > size) {
+            throw new IndexOutOfBoundsException("Prefix length " + length + " out of bounds for chain of length " + size);
+        }
+        return length == size ? this : new ImmutableChain(storage, chunks, length);
+    }
+
+    /**
+     * A read-only view of this chain followed by `blocks`, backed by that list, so blocks added to
+     * it later show up too. Nothing is written to the shared storage: once the blocks have been
+     * accepted, append them to the chain they extend.
+     */
+    public List<Block> followedBy(List<Block> blocks) {
+        return new Extension(this, blocks);
+    }
+
+    private static final class Extension extends AbstractList<Block> implements RandomAccess {
+        private final ImmutableChain base;
+        private final List<Block> blocks;
+
+        private Extension(ImmutableChain base, List<Block> blocks) {
+            this.base = base;
+            this.blocks = blocks;
+        }
+
+        @Override
+        public Block get(int index) {
+            return index < base.size ? base.get(index) : blocks.get(index - base.size);
+        }
+
+        @Override
+        public int size() {
+            return base.size + blocks.size();
+        }
+    }
+
+    @Override
+    public Block get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for chain of length " + size);
+        }
+        return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // The tip of this view, or null if it is empty
+    public Block getLast() {
+        return size == 0 ? null : get(size - 1);
+    }
+}
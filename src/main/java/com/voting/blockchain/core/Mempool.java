@@ -0,0 +1,181 @@
+// src/main/java/com/voting/blockchain/core/Mempool.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.VoteTransaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of admitted votes waiting to be mined.
+ *
+ * Capacity is claimed up front: admission reserves a slot with a CAS before any expensive work,
+ * so a full pool is reported immediately and the pool can never overshoot its bound, however
+ * many requests race. Votes live in a lock-free deque in arrival order. cut() polls the oldest
+ * votes off the head, so every vote goes into exactly one block and votes arriving during
+ * mining simply stay queued for the next one.
+ */
+@Component
+public class Mempool {
+
+    private final ConcurrentLinkedDeque<VoteTransaction> queue = new ConcurrentLinkedDeque<>();
+    private final int capacity;
+    private final int maxBlockTransactions;
+    private final long retryAfterSeconds;
+    // Queued votes plus reserved slots for votes still being verified or persisted
+    private final AtomicInteger occupied = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejectedFull = new LongAdder();
+    // Called (on the admitting thread) whenever an add brings the pool to at least the listener threshold
+    private volatile Runnable sizeListener;
+    private volatile int sizeListenerThreshold = Integer.MAX_VALUE;
+
+    public Mempool(@Value("${blockchain.mempool.capacity:100000}") int capacity,
+                   @Value("${blockchain.mempool.max-block-transactions:2000}") int maxBlockTransactions,
+                   @Value("${blockchain.mempool.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.capacity = capacity;
+        this.maxBlockTransactions = Math.max(1, maxBlockTransactions);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // --- Admission ---
+
+    /**
+     * Claims a slot for a vote about to be admitted. Throws MempoolFullException when the pool
+     * is at capacity. Every successful reservation must be followed by add() or release().
+     */
+    public void reserve() {
+        while (true) {
+            int current = occupied.get();
+            if (current >= capacity) {
+                rejectedFull.increment();
+                throw new MempoolFullException(capacity, retryAfterSeconds);
+            }
+            if (occupied.compareAndSet(current, current + 1)) {
+                return;
+            }
+        }
+    }
+
+    // Gives back a reserved slot whose vote was not admitted after all
+    public void release() {
+        occupied.decrementAndGet();
+    }
+
+    // Queues a vote into the slot reserved for it
+    public void add(VoteTransaction transaction) {
+        queue.addLast(transaction);
+        if (queued.incrementAndGet() >= sizeListenerThreshold) {
+            Runnable listener = sizeListener;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+
+    // Registers a cheap, non-blocking callback for when the pool reaches the given size (e.g. to wake the block producer)
+    public void setSizeListener(int threshold, Runnable listener) {
+        this.sizeListener = listener;
+        this.sizeListenerThreshold = threshold;
+    }
+
+    // Queues votes recovered from storage at startup; they are already durable, so capacity is not enforced
+    public void addRecovered(List<VoteTransaction> transactions) {
+        occupied.addAndGet(transactions.size());
+        for (VoteTransaction transaction : transactions) {
+            add(transaction);
+        }
+    }
+
+    // --- Block production ---
+
+    /**
+     * Atomically takes up to maxBlockTransactions of the oldest votes out of the pool. Concurrent
+     * cuts receive disjoint votes. The slots are freed straight away; if the block is not produced
+     * after all, hand the votes back with putBack().
+     */
+    public List<VoteTransaction> cut() {
+        // queued briefly trails the queue while votes are added or cut concurrently, so it can dip below zero
+        List<VoteTransaction> cut = new ArrayList<>(Math.max(0, Math.min(queued.get(), maxBlockTransactions)));
+        VoteTransaction transaction;
+        while (cut.size() < maxBlockTransactions && (transaction = queue.pollFirst()) != null) {
+            cut.add(transaction);
+        }
+        queued.addAndGet(-cut.size());
+        occupied.addAndGet(-cut.size());
+        return cut;
+    }
+
+    // Returns a cut's votes to the head of the pool, in their original order
+    public void putBack(List<VoteTransaction> transactions) {
+        occupied.addAndGet(transactions.size());
+        for (int i = transactions.size() - 1; i >= 0; i--) {
+            queue.addFirst(transactions.get(i));
+        }
+        queued.addAndGet(transactions.size());
+    }
+
+    /**
+     * Takes every queued vote by one of the given voters out of the pool and returns them, e.g.
+     * because a block from a peer already confirms those voters.
+     */
+    public List<VoteTransaction> removeVoters(Set<String> voterIds) {
+        List<VoteTransaction> removed = new ArrayList<>();
+        queue.removeIf(transaction -> {
+            if (voterIds.contains(transaction.getVoterId())) {
+                removed.add(transaction);
+                return true;
+            }
+            return false;
+        });
+        queued.addAndGet(-removed.size());
+        occupied.addAndGet(-removed.size());
+        return removed;
+    }
+
+    // --- Reads ---
+
+    // Point-in-time copy of the queued votes, oldest first
+    public List<VoteTransaction> snapshot() {
+        return new ArrayList<>(queue);
+    }
+
+    // The vote that has been waiting longest, or null
+    public VoteTransaction peekOldest() {
+        return queue.peekFirst();
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int size() {
+        return queued.get();
+    }
+
+    public int getOccupied() {
+        return occupied.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxBlockTransactions() {
+        return maxBlockTransactions;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public long getRejectedFull() {
+        return rejectedFull.sum();
+    }
+}
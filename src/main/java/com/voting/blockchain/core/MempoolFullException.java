@@ -0,0 +1,21 @@
+// src/main/java/com/voting/blockchain/core/MempoolFullException.java
+package com.voting.blockchain.core;
+
+import java.util.concurrent.RejectedExecutionException;
+
+// Thrown when the mempool is at capacity; clients should retry after the given delay
+public class MempoolFullException extends RejectedExecutionException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public MempoolFullException(int capacity, long retryAfterSeconds) {
+        super("Mempool is full (" + capacity + " pending votes).");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
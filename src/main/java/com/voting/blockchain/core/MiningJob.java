@@ -0,0 +1,45 @@
+// src/main/java/com/voting/blockchain/core/MiningJob.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+
+import java.util.concurrent.CompletableFuture;
+
+// A request to produce a block, completed by the BlockProducer with the block (or null if nothing was pending)
+public class MiningJob {
+
+    public enum Status {
+        QUEUED, DONE, EMPTY, FAILED
+    }
+
+    private final String id;
+    private final long requestedAt;
+    private final CompletableFuture<Block> result = new CompletableFuture<>();
+
+    MiningJob(String id) {
+        this.id = id;
+        this.requestedAt = System.currentTimeMillis();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getRequestedAt() {
+        return requestedAt;
+    }
+
+    public CompletableFuture<Block> getResult() {
+        return result;
+    }
+
+    public Status getStatus() {
+        if (!result.isDone()) {
+            return Status.QUEUED;
+        }
+        if (result.isCompletedExceptionally()) {
+            return Status.FAILED;
+        }
+        return result.join() == null ? Status.EMPTY : Status.DONE;
+    }
+}
@@ -0,0 +1,198 @@
+// src/main/java/com/voting/blockchain/core/ParallelMiner.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockHasher;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Proof-of-work miner that splits the nonce space across a fixed pool of worker threads.
+ * Workers claim nonces in chunks from a shared cursor and all of them stop as soon as one
+ * finds a hash that meets the difficulty. When the full 32-bit nonce space is exhausted for
+ * a given timestamp, the block timestamp is bumped and the search starts over.
+ */
+@Component
+public class ParallelMiner {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelMiner.class);
+
+    // Number of nonces a worker claims from the shared cursor at a time
+    private static final int NONCE_CHUNK_SIZE = 4096;
+    // The nonce is a 32-bit int, so every timestamp gives us 2^32 attempts (negative ints included)
+    private static final long NONCE_SPACE = 1L << 32;
+
+    private final int threadCount;
+    private final ExecutorService workers;
+
+    // --- Mining statistics ---
+    private final LongAdder totalHashes = new LongAdder();
+    private final AtomicLong blocksMined = new AtomicLong();
+    private volatile long lastBlockHashes;
+    private volatile long lastBlockMillis;
+
+    public ParallelMiner(@Value("${blockchain.mining.threads:0}") int configuredThreads) {
+        this.threadCount = configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+        this.workers = Executors.newFixedThreadPool(threadCount, new MinerThreadFactory());
+        log.info("Parallel miner started with {} worker thread(s).", threadCount);
+    }
+
+    /**
+     * Mines the given block in place: on return its nonce (and possibly timestamp) are set
+     * so that its hash starts with at least block.getDifficultyBits() zero bits, and its hash
+     * field is updated.
+     */
+    public void mine(Block block) {
+        int difficultyBits = block.getDifficultyBits();
+        long startNanos = System.nanoTime();
+        long hashes = 0;
+
+        while (true) {
+            MiningRound round = new MiningRound(block.hashPrefixBytes(), block.hasBinaryNonce(), difficultyBits);
+            runRound(round);
+            hashes += round.hashes.sum();
+            if (round.found.get()) {
+                block.setNonce(round.winningNonce);
+                block.setHash(round.winningHash);
+                break;
+            }
+            // Every nonce failed for this timestamp; change the header and search again
+            block.setTimestamp(block.getTimestamp() + 1);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        totalHashes.add(hashes);
+        blocksMined.incrementAndGet();
+        lastBlockHashes = hashes;
+        lastBlockMillis = elapsedMillis;
+    }
+
+    private void runRound(MiningRound round) {
+        List<Callable<Void>> tasks = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            tasks.add(() -> {
+                searchChunks(round);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : workers.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            round.found.set(true); // Make any still-running worker bail out
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Mining was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Mining worker failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void searchChunks(MiningRound round) {
+        long localHashes = 0;
+        BlockHasher hasher = new BlockHasher(round.headerPrefix, round.binaryNonce);
+        try {
+            while (!round.found.get()) {
+                long chunkStart = round.cursor.getAndAdd(NONCE_CHUNK_SIZE);
+                if (chunkStart >= NONCE_SPACE) {
+                    return;
+                }
+                long chunkEnd = Math.min(chunkStart + NONCE_CHUNK_SIZE, NONCE_SPACE);
+                for (long candidate = chunkStart; candidate < chunkEnd; candidate++) {
+                    if (round.found.get()) {
+                        return;
+                    }
+                    int nonce = (int) candidate; // Wraps into the negative half of the int range
+                    localHashes++;
+                    if (hasher.meetsDifficulty(nonce, round.difficultyBits)) {
+                        round.claim(nonce, hasher.lastHashHex());
+                        return;
+                    }
+                }
+            }
+        } finally {
+            round.hashes.add(localHashes);
+        }
+    }
+
+    // --- Statistics ---
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public long getTotalHashes() {
+        return totalHashes.sum();
+    }
+
+    public long getBlocksMined() {
+        return blocksMined.get();
+    }
+
+    public long getLastBlockMillis() {
+        return lastBlockMillis;
+    }
+
+    // Hashes per second achieved while mining the most recent block
+    public double getLastHashRate() {
+        long millis = lastBlockMillis;
+        return millis == 0 ? 0.0 : lastBlockHashes * 1000.0 / millis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // State shared by all workers while searching one timestamp's nonce space
+    private static final class MiningRound {
+        private final byte[] headerPrefix;
+        private final boolean binaryNonce;
+        private final int difficultyBits;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicBoolean found = new AtomicBoolean();
+        private final LongAdder hashes = new LongAdder();
+        private volatile int winningNonce;
+        private volatile String winningHash;
+
+        private MiningRound(byte[] headerPrefix, boolean binaryNonce, int difficultyBits) {
+            this.headerPrefix = headerPrefix;
+            this.binaryNonce = binaryNonce;
+            this.difficultyBits = difficultyBits;
+        }
+
+        private void claim(int nonce, String hash) {
+            if (found.compareAndSet(false, true)) {
+                winningNonce = nonce;
+                winningHash = hash;
+            }
+        }
+    }
+
+    private static final class MinerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "miner-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+// src/main/java/com/voting/blockchain/core/SignatureVerifier.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import com.voting.blockchain.util.CryptoUtil;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies vote signatures off the request thread.
+ *
+ * Admission: transactions are queued, a dispatcher thread drains whatever has accumulated into a
+ * batch (up to the configured size), and each batch is verified on a worker pool. Callers get a
+ * CompletableFuture that completes with the verdict. Under light load batches are small and add
+ * no waiting; under heavy load they grow and hand-off costs are amortised. The dispatcher only
+ * takes a batch once a worker is free, so waiting votes stay in the bounded queue and submit()
+ * refuses new ones when it is full.
+ *
+ * Validation: whole blocks are re-verified by splitting their transactions across a pool of
+ * their own, so audits and peer blocks do not queue behind admission traffic.
+ *
+ * Every worker keeps its own Signature instance, so there is no Signature.getInstance per vote.
+ * The verified/rejected statistics count admissions only; re-checks during validation are not
+ * votes arriving, and would inflate them by the chain length.
+ */
+@Component
+public class SignatureVerifier {
+
+    private static final ThreadLocal<Signature> VERIFIER = ThreadLocal.withInitial(() -> {
+        try {
+            return CryptoUtil.newVerifier();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA256withRSA is not available", e);
+        }
+    });
+
+    private final int threadCount;
+    private final int batchSize;
+    private final BlockingQueue<PendingVerification> queue;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers; // Held by the dispatcher for each batch until a worker finishes it
+    private final ExecutorService blockWorkers;
+    private final Thread dispatcher;
+
+    // --- Statistics (admission only) ---
+    private final LongAdder verified = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public SignatureVerifier(@Value("${blockchain.signatures.threads:0}") int configuredThreads,
+                             @Value("${blockchain.signatures.batch-size:64}") int batchSize,
+                             @Value("${blockchain.signatures.queue-capacity:10000}") int queueCapacity) {
+        this.threadCount = configuredThreads > 0 ? configuredThreads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        AtomicInteger workerCounter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "sig-verify-" + workerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.idleWorkers = new Semaphore(threadCount);
+        AtomicInteger blockWorkerCounter = new AtomicInteger();
+        this.blockWorkers = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "sig-block-" + blockWorkerCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = new Thread(this::dispatchLoop, "sig-batcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * Queues a transaction for verification. The future completes with true if the signature is
+     * valid for the transaction's public key, false otherwise. It fails with
+     * RejectedExecutionException if the queue is full.
+     */
+    public CompletableFuture<Boolean> submit(VoteTransaction transaction) {
+        PendingVerification pending = new PendingVerification(transaction);
+        if (!queue.offer(pending)) {
+            pending.result.completeExceptionally(new RejectedExecutionException("Signature verification queue is full"));
+        }
+        return pending.result;
+    }
+
+    /**
+     * Verifies every transaction in the block, spread across the worker pool.
+     * The genesis block carries an unsigned system marker and is always accepted.
+     */
+    public boolean verifyBlock(Block block) {
+        if (block.getIndex() == 0) {
+            return true;
+        }
+        List<VoteTransaction> transactions = block.getData();
+        int chunkSize = Math.max(1, (transactions.size() + threadCount - 1) / threadCount);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int start = 0; start < transactions.size(); start += chunkSize) {
+            List<VoteTransaction> chunk = transactions.subList(start, Math.min(start + chunkSize, transactions.size()));
+            tasks.add(() -> chunk.stream().allMatch(this::verifyTransaction));
+        }
+        try {
+            for (Future<Boolean> future : blockWorkers.invokeAll(tasks)) {
+                if (!future.get()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Block signature verification was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Block signature verification failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    // Verifies one transaction on the calling thread, using that thread's Signature instance
+    public boolean verifyTransaction(VoteTransaction transaction) {
+        try {
+            PublicKey publicKey = CryptoUtil.decodePublicKey(transaction.getSenderPublicKey());
+            return CryptoUtil.verify(VERIFIER.get(), publicKey, transaction.calculateSignatureData(), transaction.getSignature());
+        } catch (Exception e) {
+            // Malformed key or signature encoding: the vote is simply not valid
+            return false;
+        }
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<PendingVerification> batch = new ArrayList<>(batchSize);
+            try {
+                idleWorkers.acquire(); // Until a worker is free, votes wait in the bounded queue
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                idleWorkers.release();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            batches.increment();
+            try {
+                workers.execute(() -> {
+                    try {
+                        verifyBatch(batch);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                idleWorkers.release();
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+            }
+        }
+    }
+
+    private void verifyBatch(List<PendingVerification> batch) {
+        for (PendingVerification pending : batch) {
+            try {
+                boolean valid = verifyTransaction(pending.transaction);
+                (valid ? verified : rejected).increment();
+                pending.result.complete(valid);
+            } catch (RuntimeException e) {
+                pending.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    // --- Statistics ---
+
+    public long getVerifiedCount() {
+        return verified.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.interrupt();
+        workers.shutdownNow();
+        blockWorkers.shutdownNow();
+    }
+
+    private static final class PendingVerification {
+        private final VoteTransaction transaction;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private PendingVerification(VoteTransaction transaction) {
+            this.transaction = transaction;
+        }
+    }
+}
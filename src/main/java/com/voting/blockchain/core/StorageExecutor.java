@@ -0,0 +1,147 @@
+// src/main/java/com/voting/blockchain/core/StorageExecutor.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.storage.StorageException;
+import com.voting.blockchain.config.ExecutionProperties;
+import com.voting.blockchain.util.VirtualThreads;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs the node's blocking storage calls under a concurrency limit, so a burst of requests
+ * cannot pile thousands of callers into Firestore at once.
+ *
+ * blockchain.execution.mode picks where admission's storage calls run. "platform" (the
+ * default) runs them on the calling thread, as before. "virtual" starts each one on its own
+ * virtual thread, so the signature verifier pool never parks on storage I/O. Virtual mode needs
+ * Java 21; on older runtimes it falls back to platform mode with a warning.
+ *
+ * Admission calls wait at most acquire-timeout-ms for a permit and are then refused with
+ * RejectedExecutionException (503). Block writes wait as long as it takes, because a mined
+ * block must not be dropped just because storage is busy.
+ */
+@Component
+public class StorageExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageExecutor.class);
+
+    // A blocking storage call, such as BlockStore.append
+    @FunctionalInterface
+    public interface StorageCall<T> {
+        T call() throws StorageException;
+    }
+
+    private final ExecutorService virtualThreads; // null in platform mode
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long acquireTimeoutMillis;
+
+    // --- Statistics ---
+    private final LongAdder rejected = new LongAdder();
+
+    public StorageExecutor(ExecutionProperties execution,
+                           @Value("${blockchain.storage.max-concurrent-calls:64}") int maxConcurrentCalls,
+                           @Value("${blockchain.storage.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+        boolean virtual = execution.useVirtualThreads();
+        if (execution.getMode() == ExecutionProperties.Mode.VIRTUAL && !virtual) {
+            log.warn("blockchain.execution.mode=virtual needs Java 21 or later (running {}); storage calls stay on platform threads.",
+                    Runtime.version());
+        }
+        this.virtualThreads = virtual ? VirtualThreads.newThreadPerTaskExecutor("storage-") : null;
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.permits = new Semaphore(this.maxConcurrentCalls);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        log.info("Storage calls run on {} threads, at most {} at a time.", virtual ? "virtual" : "platform", this.maxConcurrentCalls);
+    }
+
+    /**
+     * Runs a blocking storage call on the caller's thread once a permit is free, however long
+     * that takes. For the block producer, whose writes must not be refused.
+     */
+    public <T> T call(StorageCall<T> call) throws StorageException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while waiting for a storage permit", e);
+        }
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Starts a storage call that may block before handing back its future (e.g. a save that
+     * waits for room in a write queue). The permit is held until that future completes, so the
+     * limit covers writes still in flight, not just handing them over. The result fails with
+     * RejectedExecutionException if no permit frees up within the acquire timeout.
+     */
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+        if (virtualThreads == null) {
+            return startCall(call);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> startCall(call), virtualThreads).thenCompose(future -> future);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e); // Shutting down
+        }
+    }
+
+    private <T> CompletableFuture<T> startCall(Supplier<CompletableFuture<T>> call) {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Storage is saturated"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Interrupted while waiting for a storage permit", e));
+        }
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, error) -> permits.release());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+    }
+
+    // --- Statistics ---
+
+    public boolean isVirtual() {
+        return virtualThreads != null;
+    }
+
+    public int getInFlight() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,149 @@
+// src/main/java/com/voting/blockchain/core/TallyIndex.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-candidate vote counters, kept up to date as transactions are admitted and blocks are
+ * appended, so reading the results costs O(candidates) instead of a scan of the chain.
+ * Counters are LongAdders so concurrent admissions for the same candidate do not contend.
+ */
+@Component
+public class TallyIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TallyIndex.class);
+
+    private final ConcurrentHashMap<String, LongAdder> confirmed = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private final LongAdder totalConfirmed = new LongAdder();
+    private final LongAdder totalPending = new LongAdder();
+    private volatile int countedUpToBlock = -1;
+
+    // --- Incremental updates ---
+
+    public void recordPending(VoteTransaction transaction) {
+        increment(pending, transaction.getCandidateId());
+        totalPending.increment();
+    }
+
+    // Moves votes that were cut from the mempool into a block out of the pending counters
+    public void removePending(List<VoteTransaction> transactions) {
+        for (VoteTransaction transaction : transactions) {
+            LongAdder counter = pending.get(transaction.getCandidateId());
+            if (counter != null) {
+                counter.decrement();
+            }
+        }
+        totalPending.add(-transactions.size());
+    }
+
+    // Counts the block's votes as confirmed; the same votes leave the pending counters through removePending
+    public void recordConfirmed(Block block) {
+        if (block.getIndex() > 0) { // The genesis block carries a system marker, not a vote
+            for (VoteTransaction transaction : block.getData()) {
+                increment(confirmed, transaction.getCandidateId());
+            }
+            totalConfirmed.add(block.getData().size());
+        }
+        countedUpToBlock = block.getIndex();
+    }
+
+    // Takes back the votes of a block that a heavier fork replaced
+    public void removeConfirmed(Block block) {
+        if (block.getIndex() > 0) {
+            for (VoteTransaction transaction : block.getData()) {
+                LongAdder counter = confirmed.get(transaction.getCandidateId());
+                if (counter != null) {
+                    counter.decrement();
+                }
+            }
+            totalConfirmed.add(-block.getData().size());
+        }
+        countedUpToBlock = block.getIndex() - 1;
+    }
+
+    public void resetPending() {
+        pending.clear();
+        totalPending.reset();
+    }
+
+    /**
+     * Recounts everything from scratch. Blocks are counted in parallel; LongAdder lets all
+     * workers increment the same candidate's counter without a lock.
+     */
+    public void rebuild(List<Block> chain, List<VoteTransaction> pendingTransactions) {
+        restore(Map.of(), chain, pendingTransactions, chain.size() - 1);
+    }
+
+    /**
+     * Starts from confirmed counts taken from a snapshot and counts only the blocks after it
+     * (and the pending pool) on top. An empty snapshot tally makes this a full rebuild.
+     */
+    public void restore(Map<String, Long> snapshotConfirmed, List<Block> blocksAfterSnapshot,
+                        List<VoteTransaction> pendingTransactions, int lastBlockIndex) {
+        confirmed.clear();
+        totalConfirmed.reset();
+        resetPending();
+
+        snapshotConfirmed.forEach((candidateId, count) -> {
+            confirmed.computeIfAbsent(candidateId, id -> new LongAdder()).add(count);
+            totalConfirmed.add(count);
+        });
+        blocksAfterSnapshot.parallelStream()
+                .filter(block -> block.getIndex() > 0)
+                .forEach(block -> {
+                    for (VoteTransaction transaction : block.getData()) {
+                        increment(confirmed, transaction.getCandidateId());
+                    }
+                    totalConfirmed.add(block.getData().size());
+                });
+        for (VoteTransaction transaction : pendingTransactions) {
+            recordPending(transaction);
+        }
+        countedUpToBlock = lastBlockIndex;
+        log.info("Tally rebuilt: {} confirmed and {} pending votes across {} candidates.",
+                totalConfirmed.sum(), totalPending.sum(), confirmed.size());
+    }
+
+    private static void increment(ConcurrentHashMap<String, LongAdder> counters, String candidateId) {
+        counters.computeIfAbsent(candidateId, id -> new LongAdder()).increment();
+    }
+
+    // --- Reads (O(candidates)) ---
+
+    public Map<String, Long> getConfirmed() {
+        return toSortedMap(confirmed);
+    }
+
+    public Map<String, Long> getPending() {
+        return toSortedMap(pending);
+    }
+
+    public long getTotalConfirmed() {
+        return totalConfirmed.sum();
+    }
+
+    public long getTotalPending() {
+        return totalPending.sum();
+    }
+
+    public int getCountedUpToBlock() {
+        return countedUpToBlock;
+    }
+
+    private static Map<String, Long> toSortedMap(ConcurrentHashMap<String, LongAdder> counters) {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((candidateId, counter) -> result.put(candidateId, counter.sum()));
+        return result;
+    }
+}
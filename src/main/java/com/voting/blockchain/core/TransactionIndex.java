@@ -0,0 +1,117 @@
+// src/main/java/com/voting/blockchain/core/TransactionIndex.java
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Where each confirmed vote sits on the chain, by transaction ID and by voter, so receipts are
+ * point lookups instead of chain scans. Entries are added and removed by the single chain writer
+ * (startup, then the block producer or a fork switch under Blockchain's mining lock) and read
+ * without locks. A location may briefly point at a block a reader's chain view does not have, or
+ * one that a fork has just replaced; readers check it against their view (see Blockchain).
+ */
+@Component
+public class TransactionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionIndex.class);
+
+    // A vote's block and its position among the block's transactions
+    public static final class Location {
+        private final int blockIndex;
+        private final int position;
+
+        Location(int blockIndex, int position) {
+            this.blockIndex = blockIndex;
+            this.position = position;
+        }
+
+        public int getBlockIndex() {
+            return blockIndex;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+    }
+
+    private final Map<String, Location> byTxId = new ConcurrentHashMap<>();
+    private final Map<String, Location> byVoter = new ConcurrentHashMap<>();
+
+    public Location findByTxId(String txId) {
+        return byTxId.get(txId);
+    }
+
+    public Location findByVoter(String voterId) {
+        return byVoter.get(voterId);
+    }
+
+    // Indexes the votes of a block just added to the chain
+    public void recordConfirmed(Block block) {
+        if (block.getIndex() == 0) {
+            return; // The genesis system marker is not a vote
+        }
+        List<VoteTransaction> data = block.getData();
+        for (int i = 0; i < data.size(); i++) {
+            put(data.get(i), new Location(block.getIndex(), i));
+        }
+    }
+
+    // Drops the votes of a block a fork replaced
+    public void removeConfirmed(Block block) {
+        if (block.getIndex() == 0) {
+            return;
+        }
+        for (VoteTransaction transaction : block.getData()) {
+            // Only entries pointing into this block; an earlier vote by the same voter stays
+            byTxId.computeIfPresent(transaction.calculateTxId(),
+                    (txId, location) -> location.blockIndex == block.getIndex() ? null : location);
+            byVoter.computeIfPresent(transaction.getVoterId(),
+                    (voterId, location) -> location.blockIndex == block.getIndex() ? null : location);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the whole chain. Transaction IDs are hashed in parallel, one block
+     * per task. If a voter appears more than once (stored before duplicates were rejected), the
+     * lookup by voter returns their earliest vote, the one the tally counts first.
+     */
+    public void rebuild(List<Block> chain) {
+        long start = System.currentTimeMillis();
+        byTxId.clear();
+        byVoter.clear();
+        IntStream.range(1, chain.size()).parallel().forEach(index -> {
+            List<VoteTransaction> data = chain.get(index).getData();
+            for (int i = 0; i < data.size(); i++) {
+                put(data.get(i), new Location(index, i));
+            }
+        });
+        log.info("Transaction index rebuilt with {} votes in {} ms.", byTxId.size(), System.currentTimeMillis() - start);
+    }
+
+    private void put(VoteTransaction transaction, Location location) {
+        byTxId.put(transaction.calculateTxId(), location);
+        byVoter.merge(transaction.getVoterId(), location, TransactionIndex::earlier);
+    }
+
+    private static Location earlier(Location a, Location b) {
+        if (a.blockIndex != b.blockIndex) {
+            return a.blockIndex < b.blockIndex ? a : b;
+        }
+        return a.position <= b.position ? a : b;
+    }
+
+    // --- Metrics ---
+
+    public int getTransactionCount() {
+        return byTxId.size();
+    }
+}
@@ -3,29 +3,79 @@ package com.voting.blockchain.model;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import com.voting.blockchain.util.MerkleTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
 public class Block {
+    // Header format versions. Version 1 blocks hash the full JSON of their transactions;
+    // version 2 blocks hash a Merkle root over the transaction hashes instead; version 3 blocks
+    // hash the same fields in BlockCodec's binary header encoding with a 4-byte nonce; version 4
+    // blocks also carry (and hash) the number of leading zero bits their hash must have.
+    public static final int LEGACY_VERSION = 1;
+    public static final int MERKLE_VERSION = 2;
+    public static final int BINARY_VERSION = 3;
+    public static final int DIFFICULTY_VERSION = 4;
+    public static final int CURRENT_VERSION = DIFFICULTY_VERSION;
+
+    // Blocks before version 4 were all mined at a fixed 4 leading hex zeros
+    public static final int LEGACY_DIFFICULTY_BITS = 16;
+
+    // ObjectMapper is thread-safe once configured, so one instance serves every hash computation
+    private static final ObjectMapper HASH_MAPPER = new ObjectMapper();
+    private static final Logger log = LoggerFactory.getLogger(Block.class);
+
     private int index;
     private long timestamp;
     private List<VoteTransaction> data; // List of vote transactions
     private String previousHash;
     private String hash;
     private int nonce; // Used for Proof-of-Work
+    private int version;
+    private String merkleRoot; // Only set for version 2+ blocks
+    private int difficultyBits; // Only set for version 4+ blocks
 
     // Constructor for a new block
     public Block(int index, String previousHash, List<VoteTransaction> data) {
+        this(index, previousHash, data, LEGACY_DIFFICULTY_BITS);
+    }
+
+    // Constructor for a new block whose hash must start with the given number of zero bits
+    public Block(int index, String previousHash, List<VoteTransaction> data, int difficultyBits) {
         this.index = index;
         this.timestamp = new Date().getTime();
         this.data = data;
         this.previousHash = previousHash;
         this.nonce = 0; // Initialize nonce
+        this.version = CURRENT_VERSION;
+        this.difficultyBits = difficultyBits;
+        this.merkleRoot = calculateMerkleRoot();
         this.hash = calculateHash(); // Calculate initial hash
     }
 
+    private Block() {
+    }
+
+    // Rebuilds a stored block exactly as it was persisted, without recomputing its Merkle root or hash
+    public static Block restore(int index, long timestamp, String previousHash, List<VoteTransaction> data,
+                                String hash, int nonce, int version, String merkleRoot, int difficultyBits) {
+        Block block = new Block();
+        block.index = index;
+        block.timestamp = timestamp;
+        block.previousHash = previousHash;
+        block.data = data;
+        block.hash = hash;
+        block.nonce = nonce;
+        block.version = version;
+        block.merkleRoot = merkleRoot;
+        block.difficultyBits = difficultyBits;
+        return block;
+    }
+
     // --- Getters ---
     public int getIndex() {
         return index;
@@ -51,6 +101,19 @@ public class Block {
         return nonce;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
+    public String getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    // Leading zero bits this block's hash must have; older versions report the fixed legacy difficulty
+    public int getDifficultyBits() {
+        return version >= DIFFICULTY_VERSION ? difficultyBits : LEGACY_DIFFICULTY_BITS;
+    }
+
     // --- Setters (for nonce and hash after mining) ---
     public void setNonce(int nonce) {
         this.nonce = nonce;
@@ -64,37 +127,94 @@ public class Block {
         this.timestamp = timestamp;
     }
 
+    // Used when loading stored blocks, which keep the header version they were mined with
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public void setMerkleRoot(String merkleRoot) {
+        this.merkleRoot = merkleRoot;
+    }
+
+    // --- Merkle tree over the block's transactions ---
+
+    private List<byte[]> transactionHashes() {
+        List<byte[]> leaves = new ArrayList<>(data.size());
+        for (VoteTransaction transaction : data) {
+            leaves.add(transaction.calculateHashBytes());
+        }
+        return leaves;
+    }
+
+    public String calculateMerkleRoot() {
+        return MerkleTree.toHex(MerkleTree.root(transactionHashes()));
+    }
+
+    // Inclusion proof for the transaction at the given position in this block
+    public List<MerkleTree.ProofStep> merkleProof(int position) {
+        return MerkleTree.proof(transactionHashes(), position);
+    }
+
+    // Position of the transaction with the given ID within this block, or -1
+    public int transactionPosition(String txId) {
+        for (int i = 0; i < data.size(); i++) {
+            if (data.get(i).calculateTxId().equals(txId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     // Method to calculate the SHA-256 hash of the block's contents
     public String calculateHash() {
+        return calculateHash(nonce);
+    }
+
+    // Calculates the hash this block would have with the given nonce, without modifying the block.
+    public String calculateHash(int nonce) {
+        BlockHasher hasher = newHasher();
+        hasher.hash(nonce);
+        return hasher.lastHashHex();
+    }
+
+    // Raw digest bytes of the block's current header, for checking difficulty without hex parsing
+    public byte[] calculateHashBytes() {
+        return newHasher().hash(nonce);
+    }
+
+    // Returns a hasher primed with this block's constant header, for trying many nonces cheaply
+    public BlockHasher newHasher() {
+        return new BlockHasher(hashPrefixBytes(), hasBinaryNonce());
+    }
+
+    // Version 3+ hashes append the nonce as 4 big-endian bytes instead of decimal digits
+    public boolean hasBinaryNonce() {
+        return version >= BINARY_VERSION;
+    }
+
+    // Everything the hash covers except the nonce, which is appended last so this prefix can be
+    // digested once and reused for every attempt.
+    //   version 1: index + timestamp + JSON(data) + previousHash
+    //   version 2: "2:" + index + ":" + timestamp + ":" + merkleRoot + ":" + previousHash + ":"
+    //   version 3+: BlockCodec.encodeHeaderPrefix (binary; version 4 adds the difficulty bits)
+    public byte[] hashPrefixBytes() {
+        if (version >= BINARY_VERSION) {
+            return BlockCodec.encodeHeaderPrefix(this);
+        }
+        if (version >= MERKLE_VERSION) {
+            return (version + ":" + index + ":" + timestamp + ":" + merkleRoot + ":" + previousHash + ":")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
         // We'll use Jackson's ObjectMapper to convert the List<VoteTransaction> to a JSON string
         // This ensures consistent hashing regardless of object order or internal representation.
-        ObjectMapper objectMapper = new ObjectMapper();
         String serializedData;
         try {
-            serializedData = objectMapper.writeValueAsString(data);
+            serializedData = HASH_MAPPER.writeValueAsString(data);
         } catch (JsonProcessingException e) {
             // Handle error, e.g., log it and return an empty string or throw a runtime exception
-            System.err.println("Error serializing block data: " + e.getMessage());
+            log.error("Error serializing block data: {}", e.getMessage());
             serializedData = ""; // Fallback
         }
-
-        String dataToHash = index + Long.toString(timestamp) + serializedData + previousHash + nonce;
-        MessageDigest digest = null;
-        try {
-            digest = MessageDigest.getInstance("SHA-256");
-        } catch (NoSuchAlgorithmException e) {
-            // This should ideally not happen for SHA-256
-            throw new RuntimeException("SHA-256 algorithm not found", e);
-        }
-        byte[] hashBytes = digest.digest(dataToHash.getBytes());
-
-        // Convert byte array to hexadecimal string
-        StringBuilder hexString = new StringBuilder();
-        for (byte b : hashBytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) hexString.append('0');
-            hexString.append(hex);
-        }
-        return hexString.toString();
+        return (index + Long.toString(timestamp) + serializedData + previousHash).getBytes(StandardCharsets.UTF_8);
     }
-}
\ No newline at end of file
+}
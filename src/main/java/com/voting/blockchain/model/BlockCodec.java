@@ -0,0 +1,328 @@
+// src/main/java/com/voting/blockchain/model/BlockCodec.java
+package com.voting.blockchain.model;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Versioned, length-prefixed binary encoding of blocks and vote transactions, used for storage,
+ * version 3 block hashing and peer transfer. JSON stays the format of the REST API.
+ *
+ * Transaction: [format byte][voterId][candidateId][long timestamp][senderPublicKey][signature]
+ * Block:       [format byte][header prefix][int nonce][hash][varint count]([varint length][transaction])*
+ * Header prefix (what a version 3+ block hash covers, followed by the nonce):
+ *              [int version][int index][long timestamp][previousHash][merkleRoot]([int difficultyBits] from version 4)
+ *
+ * String fields are a tag byte, a varint length and the bytes. Base64 keys and signatures are
+ * stored as their raw bytes and hex hashes as raw digest bytes, when they round-trip exactly;
+ * anything else is stored as UTF-8 text, so decoding always reproduces the original string.
+ *
+ * Decoding reads straight out of the given ByteBuffer (heap, direct or memory-mapped) and
+ * advances its position; no intermediate copy of the encoded record is made.
+ */
+public final class BlockCodec {
+
+    public static final byte FORMAT_VERSION = 1;
+
+    // Field tags
+    private static final byte NULL = 0;
+    private static final byte UTF8 = 1;
+    private static final byte BASE64 = 2;
+    private static final byte HEX = 3;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private BlockCodec() {
+    }
+
+    // --- Encoding ---
+
+    public static byte[] encodeTransaction(VoteTransaction transaction) {
+        Output out = new Output(256 + length(transaction.getSenderPublicKey()) + length(transaction.getSignature()));
+        out.write(FORMAT_VERSION);
+        writeTransactionFields(out, transaction);
+        return out.toByteArray();
+    }
+
+    public static byte[] encodeBlock(Block block) {
+        Output out = new Output(128 + block.getData().size() * 512);
+        out.write(FORMAT_VERSION);
+        writeHeaderPrefix(out, block);
+        out.writeInt(block.getNonce());
+        writeHex(out, block.getHash());
+        writeTransactionList(out, block.getData());
+        return out.toByteArray();
+    }
+
+    // Transactions alone, e.g. for a storage document whose header fields are kept separately
+    public static byte[] encodeTransactions(List<VoteTransaction> transactions) {
+        Output out = new Output(16 + transactions.size() * 512);
+        out.write(FORMAT_VERSION);
+        writeTransactionList(out, transactions);
+        return out.toByteArray();
+    }
+
+    // Everything a version 3+ block hash covers except the nonce
+    public static byte[] encodeHeaderPrefix(Block block) {
+        Output out = new Output(96);
+        writeHeaderPrefix(out, block);
+        return out.toByteArray();
+    }
+
+    private static void writeHeaderPrefix(Output out, Block block) {
+        out.writeInt(block.getVersion());
+        out.writeInt(block.getIndex());
+        out.writeLong(block.getTimestamp());
+        writeHex(out, block.getPreviousHash());
+        writeHex(out, block.getMerkleRoot());
+        if (block.getVersion() >= Block.DIFFICULTY_VERSION) {
+            out.writeInt(block.getDifficultyBits());
+        }
+    }
+
+    private static void writeTransactionList(Output out, List<VoteTransaction> transactions) {
+        out.writeVarint(transactions.size());
+        Output transactionOut = new Output(512);
+        for (VoteTransaction transaction : transactions) {
+            transactionOut.reset();
+            transactionOut.write(FORMAT_VERSION);
+            writeTransactionFields(transactionOut, transaction);
+            out.writeVarint(transactionOut.size());
+            transactionOut.writeTo(out);
+        }
+    }
+
+    private static void writeTransactionFields(Output out, VoteTransaction transaction) {
+        writeText(out, transaction.getVoterId());
+        writeText(out, transaction.getCandidateId());
+        out.writeLong(transaction.getTimestamp());
+        writeBase64(out, transaction.getSenderPublicKey());
+        writeBase64(out, transaction.getSignature());
+    }
+
+    private static void writeText(Output out, String value) {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        writeTagged(out, UTF8, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBase64(Output out, String value) {
+        byte[] raw = value == null ? null : decodeCanonicalBase64(value);
+        if (raw == null) {
+            writeText(out, value);
+            return;
+        }
+        writeTagged(out, BASE64, raw);
+    }
+
+    private static void writeHex(Output out, String value) {
+        byte[] raw = value == null ? null : decodeCanonicalHex(value);
+        if (raw == null) {
+            writeText(out, value);
+            return;
+        }
+        writeTagged(out, HEX, raw);
+    }
+
+    private static void writeTagged(Output out, byte tag, byte[] bytes) {
+        out.write(tag);
+        out.writeVarint(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    // Raw bytes if the string is exactly what the standard encoder would produce for them, else null
+    private static byte[] decodeCanonicalBase64(String value) {
+        try {
+            byte[] raw = Base64.getDecoder().decode(value);
+            return Base64.getEncoder().encodeToString(raw).equals(value) ? raw : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Raw bytes if the string is lower-case hex of even length, else null
+    private static byte[] decodeCanonicalHex(String value) {
+        int length = value.length();
+        if (length % 2 != 0) {
+            return null;
+        }
+        byte[] raw = new byte[length / 2];
+        for (int i = 0; i < length; i += 2) {
+            int high = hexValue(value.charAt(i));
+            int low = hexValue(value.charAt(i + 1));
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            raw[i / 2] = (byte) ((high << 4) | low);
+        }
+        return raw;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // --- Decoding ---
+
+    public static VoteTransaction decodeTransaction(ByteBuffer buffer) {
+        try {
+            checkFormat(buffer);
+            return readTransactionFields(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated transaction record", e);
+        }
+    }
+
+    public static Block decodeBlock(ByteBuffer buffer) {
+        try {
+            checkFormat(buffer);
+            int version = buffer.getInt();
+            int index = buffer.getInt();
+            long timestamp = buffer.getLong();
+            String previousHash = readField(buffer);
+            String merkleRoot = readField(buffer);
+            int difficultyBits = version >= Block.DIFFICULTY_VERSION ? buffer.getInt() : Block.LEGACY_DIFFICULTY_BITS;
+            int nonce = buffer.getInt();
+            String hash = readField(buffer);
+            List<VoteTransaction> transactions = readTransactionList(buffer);
+            return Block.restore(index, timestamp, previousHash, transactions, hash, nonce, version, merkleRoot, difficultyBits);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated block record", e);
+        }
+    }
+
+    public static List<VoteTransaction> decodeTransactions(ByteBuffer buffer) {
+        try {
+            checkFormat(buffer);
+            return readTransactionList(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated transaction list", e);
+        }
+    }
+
+    private static void checkFormat(ByteBuffer buffer) {
+        byte format = buffer.get();
+        if (format != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported encoding format " + format);
+        }
+    }
+
+    private static List<VoteTransaction> readTransactionList(ByteBuffer buffer) {
+        int count = readVarint(buffer);
+        List<VoteTransaction> transactions = new ArrayList<>(Math.min(count, buffer.remaining()));
+        for (int i = 0; i < count; i++) {
+            int length = readVarint(buffer);
+            int end = buffer.position() + length;
+            checkFormat(buffer);
+            transactions.add(readTransactionFields(buffer));
+            buffer.position(end); // Skips fields appended by a newer writer
+        }
+        return transactions;
+    }
+
+    private static VoteTransaction readTransactionFields(ByteBuffer buffer) {
+        VoteTransaction transaction = new VoteTransaction();
+        transaction.setVoterId(readField(buffer));
+        transaction.setCandidateId(readField(buffer));
+        transaction.setTimestamp(buffer.getLong());
+        transaction.setSenderPublicKey(readField(buffer));
+        transaction.setSignature(readField(buffer));
+        return transaction;
+    }
+
+    private static String readField(ByteBuffer buffer) {
+        byte tag = buffer.get();
+        if (tag == NULL) {
+            return null;
+        }
+        int length = readVarint(buffer);
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer bytes = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        switch (tag) {
+            case UTF8:
+                if (bytes.hasArray()) {
+                    return new String(bytes.array(), bytes.arrayOffset(), length, StandardCharsets.UTF_8);
+                }
+                return StandardCharsets.UTF_8.decode(bytes).toString();
+            case BASE64:
+                return StandardCharsets.ISO_8859_1.decode(Base64.getEncoder().encode(bytes)).toString();
+            case HEX:
+                char[] chars = new char[length * 2];
+                for (int i = 0; i < length; i++) {
+                    byte b = bytes.get(i);
+                    chars[i * 2] = HEX_DIGITS[(b >> 4) & 0x0f];
+                    chars[i * 2 + 1] = HEX_DIGITS[b & 0x0f];
+                }
+                return new String(chars);
+            default:
+                throw new IllegalArgumentException("Unknown field tag " + tag);
+        }
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed length");
+    }
+
+    // Growable big-endian output buffer; unlike DataOutputStream it has no checked exceptions
+    private static final class Output extends ByteArrayOutputStream {
+
+        private Output(int initialSize) {
+            super(initialSize);
+        }
+
+        private void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        private void writeLong(long value) {
+            writeInt((int) (value >>> 32));
+            writeInt((int) value);
+        }
+
+        private void writeVarint(int value) {
+            while ((value & ~0x7f) != 0) {
+                write((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        private void writeTo(Output other) {
+            other.write(buf, 0, count);
+        }
+    }
+}
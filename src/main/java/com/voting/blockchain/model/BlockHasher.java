@@ -0,0 +1,121 @@
+// src/main/java/com/voting/blockchain/model/BlockHasher.java
+package com.voting.blockchain.model;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Hashes one block header for many nonces. The constant part of the header (everything the
+ * block hash covers except the nonce) is digested once into a SHA-256 midstate; each attempt
+ * clones that state and only feeds it the nonce (decimal digits, or 4 big-endian bytes for
+ * binary headers). Difficulty (leading zero bits) is checked on the raw digest
+ * bytes and the hex string is only built for the winning hash.
+ *
+ * Not thread-safe: every mining worker uses its own instance.
+ */
+public final class BlockHasher {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    // Long enough for "-2147483648"
+    private static final int MAX_NONCE_DIGITS = 11;
+
+    private final MessageDigest midstate;
+    private final boolean binaryNonce;
+    private final byte[] nonceDigits = new byte[MAX_NONCE_DIGITS];
+    private final byte[] hashBytes = new byte[32];
+
+    public BlockHasher(byte[] headerPrefix) {
+        this(headerPrefix, false);
+    }
+
+    public BlockHasher(byte[] headerPrefix, boolean binaryNonce) {
+        this.binaryNonce = binaryNonce;
+        this.midstate = newSha256();
+        this.midstate.update(headerPrefix);
+    }
+
+    // Hashes the header with the given nonce; the result is available from lastHashBytes()/lastHashHex()
+    public byte[] hash(int nonce) {
+        MessageDigest attempt;
+        try {
+            attempt = (MessageDigest) midstate.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("SHA-256 implementation does not support cloning", e);
+        }
+        if (binaryNonce) {
+            nonceDigits[0] = (byte) (nonce >>> 24);
+            nonceDigits[1] = (byte) (nonce >>> 16);
+            nonceDigits[2] = (byte) (nonce >>> 8);
+            nonceDigits[3] = (byte) nonce;
+            attempt.update(nonceDigits, 0, 4);
+        } else {
+            int offset = writeDecimal(nonce, nonceDigits);
+            attempt.update(nonceDigits, offset, MAX_NONCE_DIGITS - offset);
+        }
+        try {
+            attempt.digest(hashBytes, 0, hashBytes.length);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 digest failed", e);
+        }
+        return hashBytes;
+    }
+
+    // Hashes the header with the given nonce and reports whether it has the required leading zero bits
+    public boolean meetsDifficulty(int nonce, int difficultyBits) {
+        return hasLeadingZeroBits(hash(nonce), difficultyBits);
+    }
+
+    public String lastHashHex() {
+        return toHex(hashBytes);
+    }
+
+    // --- Static helpers ---
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // This should ideally not happen for SHA-256
+            throw new RuntimeException("SHA-256 algorithm not found", e);
+        }
+    }
+
+    public static boolean hasLeadingZeroBits(byte[] hash, int bits) {
+        if (bits > hash.length * 8) {
+            return false;
+        }
+        int fullBytes = bits / 8;
+        for (int i = 0; i < fullBytes; i++) {
+            if (hash[i] != 0) {
+                return false;
+            }
+        }
+        int remainingBits = bits % 8;
+        return remainingBits == 0 || (hash[fullBytes] & (0xff << (8 - remainingBits)) & 0xff) == 0;
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    // Writes Integer.toString(value) as ASCII right-aligned into buffer, returning the start offset
+    private static int writeDecimal(int value, byte[] buffer) {
+        int pos = buffer.length;
+        // Work with the negative value so Integer.MIN_VALUE does not overflow
+        int remaining = value < 0 ? value : -value;
+        do {
+            buffer[--pos] = (byte) ('0' - (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            buffer[--pos] = '-';
+        }
+        return pos;
+    }
+}
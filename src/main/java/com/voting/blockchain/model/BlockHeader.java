@@ -0,0 +1,64 @@
+// src/main/java/com/voting/blockchain/model/BlockHeader.java
+package com.voting.blockchain.model;
+
+// Header-only view of a block: everything except the transaction list, plus its size.
+public class BlockHeader {
+    private final int index;
+    private final long timestamp;
+    private final String previousHash;
+    private final String hash;
+    private final int nonce;
+    private final int version;
+    private final String merkleRoot;
+    private final int difficultyBits;
+    private final int transactionCount;
+
+    public BlockHeader(Block block) {
+        this.index = block.getIndex();
+        this.timestamp = block.getTimestamp();
+        this.previousHash = block.getPreviousHash();
+        this.hash = block.getHash();
+        this.nonce = block.getNonce();
+        this.version = block.getVersion();
+        this.merkleRoot = block.getMerkleRoot();
+        this.difficultyBits = block.getDifficultyBits();
+        this.transactionCount = block.getData().size();
+    }
+
+    // --- Getters ---
+    public int getIndex() {
+        return index;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getPreviousHash() {
+        return previousHash;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public int getNonce() {
+        return nonce;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    public int getDifficultyBits() {
+        return difficultyBits;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+}
@@ -0,0 +1,58 @@
+// src/main/java/com/voting/blockchain/model/VoteReceipt.java
+package com.voting.blockchain.model;
+
+// Proof for a voter that their vote is on the chain: the vote, where it is, and how deep it is buried.
+public class VoteReceipt {
+    private final String txId;
+    private final String voterId;
+    private final String candidateId;
+    private final long timestamp;
+    private final int blockIndex;
+    private final String blockHash;
+    private final int position;
+    private final int confirmations;
+
+    public VoteReceipt(String txId, VoteTransaction transaction, Block block, int position, int chainLength) {
+        this.txId = txId;
+        this.voterId = transaction.getVoterId();
+        this.candidateId = transaction.getCandidateId();
+        this.timestamp = transaction.getTimestamp();
+        this.blockIndex = block.getIndex();
+        this.blockHash = block.getHash();
+        this.position = position;
+        this.confirmations = chainLength - block.getIndex(); // The tip block counts as one confirmation
+    }
+
+    // --- Getters ---
+    public String getTxId() {
+        return txId;
+    }
+
+    public String getVoterId() {
+        return voterId;
+    }
+
+    public String getCandidateId() {
+        return candidateId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getBlockIndex() {
+        return blockIndex;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getConfirmations() {
+        return confirmations;
+    }
+}
@@ -1,6 +1,12 @@
 // src/main/java/com/voting/blockchain/model/VoteTransaction.java
 package com.voting.blockchain.model;
 
+import com.voting.blockchain.util.MerkleTree;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 // Ensure Lombok annotations are commented out or removed if they cause conflicts with explicit constructors
 // import lombok.NoArgsConstructor;
 // import lombok.AllArgsConstructor;
@@ -77,6 +83,38 @@ public class VoteTransaction {
         return voterId + candidateId + senderPublicKey;
     }
 
+    // --- Transaction hash (Merkle leaf and transaction ID) ---
+    // SHA-256 over every field, each length-prefixed so field boundaries are unambiguous.
+    // Deliberately not named getXxx: Jackson must not add it to the JSON that legacy block hashes cover.
+    public byte[] calculateHashBytes() {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not found", e);
+        }
+        updateField(digest, voterId);
+        updateField(digest, candidateId);
+        updateField(digest, Long.toString(timestamp));
+        updateField(digest, senderPublicKey);
+        updateField(digest, signature);
+        return digest.digest();
+    }
+
+    public String calculateTxId() {
+        return MerkleTree.toHex(calculateHashBytes());
+    }
+
+    private static void updateField(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(new byte[]{(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff}); // length -1 marks null
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        digest.update(bytes);
+    }
 
     @Override
     public String toString() {
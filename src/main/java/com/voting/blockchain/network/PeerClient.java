@@ -0,0 +1,129 @@
+// src/main/java/com/voting/blockchain/network/PeerClient.java
+package com.voting.blockchain.network;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockCodec;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HTTP calls one node makes to another. Peers are other instances of this application, so
+ * everything goes through the same public endpoints a client would use: /peers/status,
+ * paged block headers from /blocks, block bodies from /blocks/binary (BlockCodec records), and
+ * POST /peers/blocks to announce a new block.
+ */
+class PeerClient {
+
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final String sharedSecret;
+
+    PeerClient(ObjectMapper objectMapper, long timeoutMillis, String sharedSecret) {
+        this.objectMapper = objectMapper;
+        this.sharedSecret = sharedSecret;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    // --- Requests ---
+
+    PeerStatus status(String peer) throws IOException, InterruptedException {
+        JsonNode json = objectMapper.readTree(get(peer + "/api/v1/peers/status"));
+        return new PeerStatus(json.get("length").asInt(), json.get("tipHash").asText(),
+                new BigInteger(json.get("totalWork").asText()));
+    }
+
+    // Headers of blocks from..from+count-1 (fewer at the peer's tip), in index order
+    List<PeerHeader> headers(String peer, int from, int count) throws IOException, InterruptedException {
+        JsonNode json = objectMapper.readTree(get(peer + "/api/v1/blocks?headersOnly=true&from=" + from + "&limit=" + count));
+        List<PeerHeader> headers = new ArrayList<>(count);
+        for (JsonNode header : json.get("blocks")) {
+            headers.add(new PeerHeader(header.get("index").asInt(), header.get("hash").asText(),
+                    header.get("previousHash").asText(), header.get("difficultyBits").asInt()));
+        }
+        return headers;
+    }
+
+    // Full blocks from..from+count-1 (fewer at the peer's tip), in index order
+    List<Block> blocks(String peer, int from, int count) throws IOException, InterruptedException {
+        ByteBuffer buffer = ByteBuffer.wrap(get(peer + "/api/v1/blocks/binary?from=" + from + "&limit=" + count));
+        List<Block> blocks = new ArrayList<>(count);
+        try {
+            while (buffer.hasRemaining()) {
+                int length = buffer.getInt();
+                ByteBuffer record = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                blocks.add(BlockCodec.decodeBlock(record));
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed block stream from " + peer + ": " + e.getMessage(), e);
+        }
+        return blocks;
+    }
+
+    // Returns the HTTP status the peer answered with
+    int announce(String peer, Block block, String origin) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(peer + "/api/v1/peers/blocks"))
+                .timeout(timeout)
+                .header("Content-Type", "application/octet-stream")
+                .header(PeerService.ORIGIN_HEADER, origin)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(BlockCodec.encodeBlock(block)));
+        if (!sharedSecret.isEmpty()) {
+            request.header(PeerService.TOKEN_HEADER, sharedSecret);
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private byte[] get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET().build();
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + url + " answered " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    // --- Responses ---
+
+    static final class PeerStatus {
+        final int length;
+        final String tipHash;
+        final BigInteger totalWork;
+
+        PeerStatus(int length, String tipHash, BigInteger totalWork) {
+            this.length = length;
+            this.tipHash = tipHash;
+            this.totalWork = totalWork;
+        }
+    }
+
+    // The header fields sync needs before downloading a block
+    static final class PeerHeader {
+        final int index;
+        final String hash;
+        final String previousHash;
+        final int difficultyBits;
+
+        PeerHeader(int index, String hash, String previousHash, int difficultyBits) {
+            this.index = index;
+            this.hash = hash;
+            this.previousHash = previousHash;
+            this.difficultyBits = difficultyBits;
+        }
+    }
+}
@@ -0,0 +1,526 @@
+// src/main/java/com/voting/blockchain/network/PeerService.java
+package com.voting.blockchain.network;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.blockchain.core.Blockchain;
+import com.voting.blockchain.core.ChainListener;
+import com.voting.blockchain.core.ChainValidator;
+import com.voting.blockchain.core.ChainWork;
+import com.voting.blockchain.core.ImmutableChain;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockHasher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replicates the chain between nodes listed in blockchain.peers.
+ *
+ * Announce: whenever the chain changes, the new tip block is POSTed to every peer except the one
+ * it came from. A peer appends it straight away if it extends its own tip, and re-announces it
+ * in turn; otherwise it is missing blocks (or on another fork) and starts a sync.
+ *
+ * Sync runs on one thread, every sync-interval-ms and whenever an announcement does not connect.
+ * It asks every peer for its status and, if one reports more cumulative work than this node has,
+ * catches up from it header-first:
+ *   1. Find the fork point by comparing the peer's headers with our blocks, walking back in
+ *      doubling steps from the shorter tip.
+ *   2. Fetch the headers after the fork point in parallel pages and check that they link up and
+ *      that each hash meets its claimed difficulty. Stop unless they add more work than our own
+ *      blocks after the fork point: fork choice is by cumulative work (see ChainWork).
+ *   3. Request every batch of block bodies at once over parallel-fetches connections, and
+ *      validate each batch as soon as it and everything before it has arrived, while later
+ *      batches are still downloading.
+ *   4. Hand the candidate chain to Blockchain.adoptFork, which re-checks it against the chain
+ *      as it is by then and switches over.
+ *
+ * Each node keeps its own copy of the chain and serves every read from memory, so reads scale
+ * with the number of nodes. Give each node its own storage (blockchain.storage.type=local with
+ * its own directory, or memory) rather than one shared Firestore collection. Several nodes on
+ * one machine, e.g.:
+ *   java -jar demo.jar --server.port=8081 --blockchain.storage.type=local --blockchain.storage.local.directory=./data/n1
+ *        --blockchain.snapshot.directory=./data/n1/snapshots --blockchain.peers=http://localhost:8082,http://localhost:8083
+ * and likewise for 8082 and 8083. Every node creates its own genesis block, so a fresh node adopts
+ * the first heavier chain it sees; nodes that mined blocks before ever connecting stay apart.
+ */
+@Component
+public class PeerService implements ChainListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PeerService.class);
+
+    // Sent with announcements so the receiver does not announce the block straight back
+    public static final String ORIGIN_HEADER = "X-Peer-Origin";
+    // Carries blockchain.peers.shared-secret on requests that change this node's chain
+    public static final String TOKEN_HEADER = "X-Peer-Token";
+
+    public enum AnnounceOutcome {
+        KNOWN,    // Already on our chain
+        ACCEPTED, // Appended to our chain
+        SYNCING,  // Does not extend our tip; catching up with peers instead
+        INVALID   // Extends our tip but fails validation
+    }
+
+    private final Blockchain blockchain;
+    private final ChainValidator validator;
+    private final PeerClient client;
+    private final List<String> peers;
+    private final String selfUrl;
+    private final long syncIntervalMillis;
+    private final int headerPageSize;
+    private final int blockBatchSize;
+    private final int parallelFetches;
+    private final byte[] sharedSecret; // Empty: trust requests from the configured peers' hosts instead
+    private final Map<String, PeerState> states = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService syncThread;
+    private final ExecutorService gossipThread;
+    private final ExecutorService fetchPool;
+    private final AtomicBoolean syncQueued = new AtomicBoolean();
+
+    // --- Statistics ---
+    private final LongAdder announcementsSent = new LongAdder();
+    private final LongAdder blocksAccepted = new LongAdder();
+    private final LongAdder syncsAdopted = new LongAdder();
+    private final LongAdder blocksSynced = new LongAdder();
+
+    public PeerService(Blockchain blockchain, ChainValidator validator, ObjectMapper objectMapper,
+                       @Value("${blockchain.peers:}") String peerList,
+                       @Value("${blockchain.peers.self-url:http://localhost:${server.port:8080}}") String selfUrl,
+                       @Value("${blockchain.peers.sync-interval-ms:5000}") long syncIntervalMillis,
+                       @Value("${blockchain.peers.header-page-size:500}") int headerPageSize,
+                       @Value("${blockchain.peers.block-batch-size:100}") int blockBatchSize,
+                       @Value("${blockchain.peers.parallel-fetches:4}") int parallelFetches,
+                       @Value("${blockchain.peers.timeout-ms:10000}") long timeoutMillis,
+                       @Value("${blockchain.peers.shared-secret:}") String sharedSecret) {
+        this.blockchain = blockchain;
+        this.validator = validator;
+        this.sharedSecret = sharedSecret.getBytes(StandardCharsets.UTF_8);
+        this.client = new PeerClient(objectMapper, timeoutMillis, sharedSecret);
+        this.selfUrl = normalize(selfUrl);
+        this.peers = Arrays.stream(peerList.split(","))
+                .map(PeerService::normalize)
+                .filter(peer -> !peer.isEmpty() && !peer.equals(this.selfUrl))
+                .distinct()
+                .toList();
+        this.syncIntervalMillis = Math.max(100, syncIntervalMillis);
+        this.headerPageSize = Math.max(1, Math.min(headerPageSize, 500)); // /blocks serves at most 500 per page
+        this.blockBatchSize = Math.max(1, blockBatchSize);
+        this.parallelFetches = Math.max(1, parallelFetches);
+        peers.forEach(peer -> states.put(peer, new PeerState()));
+
+        if (peers.isEmpty()) {
+            this.syncThread = null;
+            this.gossipThread = null;
+            this.fetchPool = null;
+        } else {
+            this.syncThread = Executors.newSingleThreadScheduledExecutor(daemon("peer-sync"));
+            this.gossipThread = Executors.newSingleThreadExecutor(daemon("peer-gossip"));
+            AtomicInteger fetcherCounter = new AtomicInteger();
+            this.fetchPool = Executors.newFixedThreadPool(this.parallelFetches,
+                    runnable -> daemon("peer-fetch-" + fetcherCounter.incrementAndGet()).newThread(runnable));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (peers.isEmpty()) {
+            log.info("No peers configured; running as a standalone node.");
+            return;
+        }
+        if (sharedSecret.length == 0) {
+            log.warn("blockchain.peers.shared-secret is not set; accepting pushed blocks from any process on the peers' hosts.");
+        }
+        blockchain.addChainListener(this);
+        syncThread.scheduleWithFixedDelay(this::syncSafely, 0, syncIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Replicating with {} peer(s) as {}: {}", peers.size(), selfUrl, peers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (syncThread != null) {
+            syncThread.shutdownNow();
+            gossipThread.shutdownNow();
+            fetchPool.shutdownNow();
+        }
+    }
+
+    // --- Announce ---
+
+    @Override
+    public void onChainUpdated(List<Block> added, List<Block> removed, String source) {
+        Block tip = added.get(added.size() - 1); // Peers missing earlier blocks will sync them
+        gossipThread.execute(() -> {
+            for (String peer : peers) {
+                if (peer.equals(source)) {
+                    continue;
+                }
+                try {
+                    client.announce(peer, tip, selfUrl);
+                    announcementsSent.increment();
+                    states.get(peer).succeeded();
+                } catch (IOException e) {
+                    states.get(peer).failed(e);
+                    log.debug("Could not announce block {} to {}: {}", tip.getIndex(), peer, e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether a request that changes our chain (an announced block, a sync trigger) comes from a
+     * peer. Never without configured peers; with a shared secret only if the request carries it;
+     * otherwise only from the host of a configured peer.
+     */
+    public boolean isTrustedPeer(String remoteAddress, String token) {
+        if (peers.isEmpty()) {
+            return false;
+        }
+        if (sharedSecret.length > 0) {
+            return token != null && MessageDigest.isEqual(sharedSecret, token.getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            InetAddress remote = InetAddress.getByName(remoteAddress); // An IP literal, so no lookup
+            for (String peer : peers) {
+                String host = URI.create(peer).getHost();
+                if (host == null) {
+                    continue;
+                }
+                for (InetAddress address : InetAddress.getAllByName(host)) {
+                    if (address.equals(remote) || (address.isLoopbackAddress() && remote.isLoopbackAddress())) {
+                        return true;
+                    }
+                }
+            }
+        } catch (UnknownHostException | IllegalArgumentException e) {
+            log.debug("Could not match {} against the peers: {}", remoteAddress, e.getMessage());
+        }
+        return false;
+    }
+
+    // Handles a block another node announced
+    public AnnounceOutcome receive(Block block, String origin) {
+        if (blockchain.getBlockByHash(block.getHash()) != null) {
+            return AnnounceOutcome.KNOWN;
+        }
+        String source = origin == null || origin.isBlank() ? "unknown peer" : normalize(origin);
+        if (blockchain.tryAppendPeerBlock(block, source)) {
+            blocksAccepted.increment();
+            return AnnounceOutcome.ACCEPTED;
+        }
+        Block tip = blockchain.getLatestBlock();
+        if (block.getIndex() == tip.getIndex() + 1 && block.getPreviousHash().equals(tip.getHash())) {
+            log.warn("Rejected invalid block {} announced by {}", block.getIndex(), source);
+            return AnnounceOutcome.INVALID;
+        }
+        requestSync();
+        return AnnounceOutcome.SYNCING;
+    }
+
+    // --- Sync ---
+
+    // Queues a sync round unless one is already waiting
+    public void requestSync() {
+        if (syncThread != null && syncQueued.compareAndSet(false, true)) {
+            syncThread.execute(this::syncSafely);
+        }
+    }
+
+    private void syncSafely() {
+        syncQueued.set(false);
+        try {
+            syncOnce();
+        } catch (RuntimeException e) {
+            log.error("Peer sync failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void syncOnce() {
+        String bestPeer = null;
+        PeerClient.PeerStatus best = null;
+        for (String peer : peers) {
+            try {
+                PeerClient.PeerStatus status = client.status(peer);
+                states.get(peer).seen(status);
+                if (best == null || status.totalWork.compareTo(best.totalWork) > 0) {
+                    bestPeer = peer;
+                    best = status;
+                }
+            } catch (IOException e) {
+                states.get(peer).failed(e);
+                log.debug("Peer {} is unreachable: {}", peer, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (best == null || best.totalWork.compareTo(blockchain.getTotalWork()) <= 0) {
+            return;
+        }
+        try {
+            syncFrom(bestPeer, best);
+        } catch (IOException e) {
+            states.get(bestPeer).failed(e);
+            log.warn("Sync from {} failed: {}", bestPeer, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void syncFrom(String peer, PeerClient.PeerStatus status) throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        ImmutableChain ours = blockchain.getChain();
+        int fork = findForkPoint(peer, ours, status.length);
+        if (fork == -1 && ours.size() > 1) {
+            log.warn("Peer {} is on a chain with a different genesis block; not syncing from it.", peer);
+            return;
+        }
+
+        // 1. Headers: check linkage and claimed work before downloading anything heavy
+        List<PeerClient.PeerHeader> headers = fetchHeaders(peer, fork + 1, status.length);
+        String previousHash = fork >= 0 ? ours.get(fork).getHash() : "0";
+        BigInteger work = BigInteger.ZERO;
+        for (int i = 0; i < headers.size(); i++) {
+            PeerClient.PeerHeader header = headers.get(i);
+            if (header.index != fork + 1 + i || !header.previousHash.equals(previousHash) || !meetsClaimedDifficulty(header)) {
+                throw new IOException("Header chain breaks at block " + (fork + 1 + i));
+            }
+            previousHash = header.hash;
+            work = work.add(ChainWork.of(header.difficultyBits));
+        }
+        if (work.compareTo(ChainWork.of(ours, fork + 1)) <= 0) {
+            return;
+        }
+
+        // 2. Bodies: every batch requested at once, validated in order as they arrive
+        List<CompletableFuture<List<Block>>> batches = new ArrayList<>();
+        for (int from = fork + 1; from < fork + 1 + headers.size(); from += blockBatchSize) {
+            int batchStart = from;
+            int count = Math.min(blockBatchSize, fork + 1 + headers.size() - from);
+            batches.add(fetchAsync(() -> client.blocks(peer, batchStart, count)));
+        }
+        List<Block> fetched = new ArrayList<>();
+        List<Block> candidate = ours.prefix(fork + 1).followedBy(fetched); // Appended only once adopted
+        Set<String> candidateVoters = new HashSet<>(); // Voters in the batches validated so far
+        try {
+            for (CompletableFuture<List<Block>> batch : batches) {
+                int batchStart = candidate.size();
+                for (Block block : await(batch)) {
+                    PeerClient.PeerHeader header = headers.get(candidate.size() - (fork + 1));
+                    if (block.getIndex() != header.index || !block.getHash().equals(header.hash)) {
+                        throw new IOException("Block " + header.index + " does not match its header");
+                    }
+                    fetched.add(block);
+                }
+                if (candidate.size() == batchStart) {
+                    throw new IOException("Peer returned no blocks from " + batchStart);
+                }
+                if (!validator.validateRange(candidate, batchStart,
+                        voterId -> candidateVoters.contains(voterId) || blockchain.isVoterConfirmed(voterId, fork))) {
+                    throw new IOException("Invalid block between " + batchStart + " and " + (candidate.size() - 1));
+                }
+                for (Block block : candidate.subList(batchStart, candidate.size())) {
+                    block.getData().forEach(transaction -> candidateVoters.add(transaction.getVoterId()));
+                }
+            }
+        } finally {
+            batches.forEach(batch -> batch.cancel(false));
+        }
+        if (candidate.size() != fork + 1 + headers.size()) {
+            throw new IOException("Peer returned " + (candidate.size() - fork - 1) + " of " + headers.size() + " blocks");
+        }
+
+        // 3. Switch over, if our chain has not outgrown the candidate meanwhile
+        if (blockchain.adoptFork(candidate, fork, peer)) {
+            syncsAdopted.increment();
+            blocksSynced.add(headers.size());
+            states.get(peer).succeeded();
+            log.info("Synced {} block(s) from {} (fork point {}) in {} ms.", headers.size(), peer, fork,
+                    System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Highest index at which the peer's block equals ours, or -1 if not even the genesis blocks
+     * match. Starts at the shorter tip and walks back in doubling steps, fetching each range once.
+     */
+    private int findForkPoint(String peer, List<Block> ours, int peerLength) throws IOException, InterruptedException {
+        int top = Math.min(ours.size(), peerLength) - 1;
+        int lookback = headerPageSize;
+        while (top >= 0) {
+            int start = Math.max(0, top - lookback + 1);
+            List<PeerClient.PeerHeader> headers = fetchHeaders(peer, start, top + 1);
+            for (int i = headers.size() - 1; i >= 0; i--) {
+                PeerClient.PeerHeader header = headers.get(i);
+                if (header.index < ours.size() && header.hash.equals(ours.get(header.index).getHash())) {
+                    return header.index;
+                }
+            }
+            top = start - 1;
+            lookback *= 2;
+        }
+        return -1;
+    }
+
+    // Headers from..to-1, fetched as parallel pages
+    private List<PeerClient.PeerHeader> fetchHeaders(String peer, int from, int to) throws IOException, InterruptedException {
+        List<CompletableFuture<List<PeerClient.PeerHeader>>> pages = new ArrayList<>();
+        for (int page = from; page < to; page += headerPageSize) {
+            int pageStart = page;
+            int count = Math.min(headerPageSize, to - page);
+            pages.add(fetchAsync(() -> client.headers(peer, pageStart, count)));
+        }
+        List<PeerClient.PeerHeader> headers = new ArrayList<>(Math.max(0, to - from));
+        for (CompletableFuture<List<PeerClient.PeerHeader>> page : pages) {
+            headers.addAll(await(page));
+        }
+        if (headers.size() != Math.max(0, to - from)) {
+            throw new IOException("Peer returned " + headers.size() + " of " + (to - from) + " headers");
+        }
+        return headers;
+    }
+
+    private static boolean meetsClaimedDifficulty(PeerClient.PeerHeader header) {
+        try {
+            return BlockHasher.hasLeadingZeroBits(HexFormat.of().parseHex(header.hash), header.difficultyBits);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private <T> CompletableFuture<T> fetchAsync(Callable<T> fetch) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return fetch.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, fetchPool);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException, InterruptedException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException interrupted) {
+                throw interrupted;
+            }
+            throw cause instanceof IOException io ? io : new IOException(cause.getMessage(), cause);
+        }
+    }
+
+    private static String normalize(String url) {
+        String trimmed = url.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+
+    private static java.util.concurrent.ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // --- Statistics ---
+
+    public String getSelfUrl() {
+        return selfUrl;
+    }
+
+    // What each peer last reported and whether it is reachable, in configuration order
+    public List<Map<String, Object>> getPeerStates() {
+        List<Map<String, Object>> result = new ArrayList<>(peers.size());
+        for (String peer : peers) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("url", peer);
+            states.get(peer).describe(entry);
+            result.add(entry);
+        }
+        return result;
+    }
+
+    public long getAnnouncementsSent() {
+        return announcementsSent.sum();
+    }
+
+    public long getBlocksAccepted() {
+        return blocksAccepted.sum();
+    }
+
+    public long getSyncsAdopted() {
+        return syncsAdopted.sum();
+    }
+
+    public long getBlocksSynced() {
+        return blocksSynced.sum();
+    }
+
+    // Last known state of one peer
+    private static final class PeerState {
+        private volatile int length = -1;
+        private volatile String totalWork;
+        private volatile long lastContactMillis;
+        private volatile String lastError;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        void seen(PeerClient.PeerStatus status) {
+            length = status.length;
+            totalWork = status.totalWork.toString();
+            succeeded();
+        }
+
+        void succeeded() {
+            lastContactMillis = System.currentTimeMillis();
+            consecutiveFailures.set(0);
+            lastError = null;
+        }
+
+        void failed(Exception error) {
+            consecutiveFailures.incrementAndGet();
+            lastError = error.getMessage();
+        }
+
+        void describe(Map<String, Object> entry) {
+            entry.put("reachable", lastContactMillis > 0 && consecutiveFailures.get() == 0);
+            entry.put("length", length);
+            entry.put("totalWork", totalWork);
+            entry.put("lastContactMillis", lastContactMillis);
+            entry.put("consecutiveFailures", consecutiveFailures.get());
+            entry.put("lastError", lastError);
+        }
+    }
+}
@@ -1,10 +1,11 @@
 // src/main/java/com/voting/blockchain/security/FirebaseSecurityConfig.java
 package com.voting.blockchain.security;
 
-import com.voting.blockchain.service.FirebaseAuthenticationService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -15,10 +16,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity // Enables Spring Security's web security support
 public class FirebaseSecurityConfig {
 
-    private final FirebaseAuthenticationService firebaseAuthService;
+    private final TokenVerificationCache tokenCache;
 
-    public FirebaseSecurityConfig(FirebaseAuthenticationService firebaseAuthService) {
-        this.firebaseAuthService = firebaseAuthService;
+    public FirebaseSecurityConfig(TokenVerificationCache tokenCache) {
+        this.tokenCache = tokenCache;
     }
 
     @Bean
@@ -36,21 +37,35 @@ public class FirebaseSecurityConfig {
         http.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         // Add our custom Firebase Token filter BEFORE the standard UsernamePasswordAuthenticationFilter
-        // This filter will extract and verify the Firebase ID token from the "Authorization" header
+        // This filter will extract and verify the Firebase ID token from the "Authorization" header,
+        // reusing earlier verifications of the same token through the TokenVerificationCache
         http.addFilterBefore(
-                new FirebaseTokenFilter(firebaseAuthService),
+                new FirebaseTokenFilter(tokenCache),
                 UsernamePasswordAuthenticationFilter.class
         );
 
         // Define authorization rules for API endpoints
         http.authorizeHttpRequests(authorize -> authorize
+                // Async responses (e.g. vote admission futures) were already authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Allow unauthenticated access to /api/v1/blockchain and /api/v1/mine for viewing/mining publicly
                 .requestMatchers("/api/v1/blockchain", "/api/v1/mine", "/api/v1/generateKeys").permitAll() // Added /generateKeys
                 .requestMatchers("/api/v1/transactions/pending").permitAll() // Allow checking pending transactions publicly
+                .requestMatchers("/api/v1/mining/stats").permitAll() // Miner thread count and hash rate
+                .requestMatchers("/api/v1/mine/jobs/**").permitAll() // Status of blocks requested through /mine
+                .requestMatchers("/api/v1/admission/stats").permitAll() // Admission counters such as duplicate rejections
+                .requestMatchers("/api/v1/tally").permitAll() // Live results for dashboards
+                .requestMatchers("/api/v1/blocks/**").permitAll() // Per-block reads such as Merkle inclusion proofs
+                .requestMatchers("/api/v1/events", "/api/v1/events/stats").permitAll() // Server-Sent Events for observers and dashboards
+                .requestMatchers("/api/v1/peers", "/api/v1/peers/**").permitAll() // Node-to-node replication; pushes are checked against the configured peers in PeerController
+                .requestMatchers("/actuator/health", "/actuator/prometheus", "/actuator/metrics/**").permitAll() // Health checks and metrics scraping
                 .requestMatchers("/api/v1/transactions/register").permitAll() // Allow new user registration without auth for now (temporary)
+                .requestMatchers(HttpMethod.GET, "/api/v1/transactions/*", "/api/v1/voters/*/receipt").permitAll() // Vote lookups and receipts
 
                 // Require authentication for adding new transactions
                 .requestMatchers("/api/v1/transactions/new").authenticated()
+                .requestMatchers("/api/v1/blockchain/audit").authenticated() // Full parallel re-validation, every signature included
 
                 // Deny all other requests by default (if not matched above)
                 .anyRequest().denyAll()
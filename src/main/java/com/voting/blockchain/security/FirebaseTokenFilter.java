@@ -1,13 +1,12 @@
 // src/main/java/com/voting/blockchain/security/FirebaseTokenFilter.java
 package com.voting.blockchain.security;
 
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
-import com.voting.blockchain.service.FirebaseAuthenticationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
@@ -19,10 +18,12 @@ import java.util.Collections;
 
 public class FirebaseTokenFilter extends OncePerRequestFilter {
 
-    private final FirebaseAuthenticationService firebaseAuthService;
+    private static final Logger log = LoggerFactory.getLogger(FirebaseTokenFilter.class);
 
-    public FirebaseTokenFilter(FirebaseAuthenticationService firebaseAuthService) {
-        this.firebaseAuthService = firebaseAuthService;
+    private final TokenVerificationCache tokenCache;
+
+    public FirebaseTokenFilter(TokenVerificationCache tokenCache) {
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -35,10 +36,11 @@ public class FirebaseTokenFilter extends OncePerRequestFilter {
             String idToken = authorizationHeader.substring(7); // Extract the token
 
             try {
-                FirebaseToken firebaseToken = firebaseAuthService.verifyToken(idToken);
+                // Served from the cache when this token was already verified and has not expired
+                VerifiedToken verifiedToken = tokenCache.verify(idToken);
 
                 UserDetails userDetails = User.builder()
-                        .username(firebaseToken.getUid()) // Firebase UID as username
+                        .username(verifiedToken.getUid()) // Firebase UID as username
                         .password("") // Password not needed for token-based auth
                         .authorities(Collections.emptyList()) // No specific roles for now
                         .build();
@@ -48,15 +50,15 @@ public class FirebaseTokenFilter extends OncePerRequestFilter {
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                System.out.println("Firebase Token verified for UID: " + firebaseToken.getUid());
+                log.debug("Firebase Token verified for UID: {}", verifiedToken.getUid());
 
-            } catch (FirebaseAuthException e) {
-                System.err.println("Firebase Token verification failed: " + e.getMessage());
+            } catch (InvalidTokenException e) {
+                log.warn("Firebase Token verification failed: {}", e.getMessage());
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401 Unauthorized
                 response.getWriter().write("{\"error\": \"Unauthorized: Invalid or expired token.\"}");
                 return;
             } catch (IllegalArgumentException e) {
-                System.err.println("Missing or malformed Authorization header: " + e.getMessage());
+                log.debug("Missing or malformed Authorization header: {}", e.getMessage());
             }
         }
 
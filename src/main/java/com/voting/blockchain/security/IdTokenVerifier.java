@@ -0,0 +1,9 @@
+// src/main/java/com/voting/blockchain/security/IdTokenVerifier.java
+package com.voting.blockchain.security;
+
+// Performs the full (expensive) verification of an ID token. Implemented by
+// FirebaseAuthenticationService in production; tests can plug in a local stub.
+public interface IdTokenVerifier {
+
+    VerifiedToken verify(String idToken) throws InvalidTokenException;
+}
@@ -0,0 +1,16 @@
+// src/main/java/com/voting/blockchain/security/InvalidTokenException.java
+package com.voting.blockchain.security;
+
+// Thrown when an ID token is malformed, has a bad signature, has expired or has been revoked
+public class InvalidTokenException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+
+    public InvalidTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
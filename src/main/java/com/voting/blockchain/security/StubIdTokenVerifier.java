@@ -0,0 +1,26 @@
+// src/main/java/com/voting/blockchain/security/StubIdTokenVerifier.java
+package com.voting.blockchain.security;
+
+/**
+ * Accepts any token of the form "<prefix><uid>" as belonging to that UID, without contacting
+ * Firebase. Only for load tests and local experiments: anyone can vote as anyone.
+ */
+public class StubIdTokenVerifier implements IdTokenVerifier {
+
+    private static final long VALIDITY_SECONDS = 3600;
+
+    private final String prefix;
+
+    public StubIdTokenVerifier(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public VerifiedToken verify(String idToken) throws InvalidTokenException {
+        if (!idToken.startsWith(prefix) || idToken.length() == prefix.length()) {
+            throw new InvalidTokenException("Expected a token of the form " + prefix + "<uid>");
+        }
+        long now = System.currentTimeMillis() / 1000;
+        return new VerifiedToken(idToken.substring(prefix.length()), now, now + VALIDITY_SECONDS);
+    }
+}
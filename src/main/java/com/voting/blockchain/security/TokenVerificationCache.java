@@ -0,0 +1,142 @@
+// src/main/java/com/voting/blockchain/security/TokenVerificationCache.java
+package com.voting.blockchain.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers tokens that have already passed full verification, so a client re-sending the same
+ * ID token does not pay for a JWT signature check on every request.
+ *
+ * Entries are keyed by a SHA-256 of the token (raw bearer tokens are never kept), hold only the
+ * UID and timestamps, and expire at the token's own "exp". Reads are lock-free Caffeine lookups.
+ * revokeUser() drops a user's cached tokens and rejects any token issued before the revocation.
+ * A revocation is kept for max-token-lifetime-seconds (an hour for Firebase ID tokens), after
+ * which every token it covers has expired anyway.
+ */
+@Component
+public class TokenVerificationCache {
+
+    private final IdTokenVerifier verifier;
+    private final LongSupplier epochSeconds;
+    private final Cache<String, VerifiedToken> cache;
+    // UID -> epoch second of revocation; tokens issued before it are rejected
+    private final Cache<String, Long> revokedAt;
+
+    @Autowired
+    public TokenVerificationCache(IdTokenVerifier verifier,
+                                  @Value("${blockchain.auth.token-cache-size:100000}") long maxSize,
+                                  @Value("${blockchain.auth.max-token-lifetime-seconds:3600}") long maxTokenLifetimeSeconds) {
+        this(verifier, maxSize, maxTokenLifetimeSeconds, () -> System.currentTimeMillis() / 1000);
+    }
+
+    // Lets tests control the clock used for token expiry
+    TokenVerificationCache(IdTokenVerifier verifier, long maxSize, long maxTokenLifetimeSeconds, LongSupplier epochSeconds) {
+        this.verifier = verifier;
+        this.epochSeconds = epochSeconds;
+        this.revokedAt = Caffeine.newBuilder()
+                .ticker(() -> TimeUnit.SECONDS.toNanos(epochSeconds.getAsLong()))
+                .expireAfterWrite(maxTokenLifetimeSeconds, TimeUnit.SECONDS)
+                .build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return TimeUnit.SECONDS.toNanos(Math.max(0, token.getExpiresAt() - epochSeconds.getAsLong()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the verified token, from the cache if possible, otherwise by running the full
+     * verification and caching the result until the token expires.
+     */
+    public VerifiedToken verify(String idToken) throws InvalidTokenException {
+        if (idToken == null || idToken.isEmpty()) {
+            throw new IllegalArgumentException("ID Token cannot be null or empty.");
+        }
+        String key = cacheKey(idToken);
+        long now = epochSeconds.getAsLong();
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.getExpiresAt() > now && !isRevoked(cached)) {
+            return cached;
+        }
+
+        VerifiedToken verified = verifier.verify(idToken);
+        if (verified.getExpiresAt() <= now) {
+            throw new InvalidTokenException("Token has expired.");
+        }
+        if (isRevoked(verified)) {
+            throw new InvalidTokenException("Token has been revoked.");
+        }
+        cache.put(key, verified);
+        return verified;
+    }
+
+    // --- Revocation hooks ---
+
+    // Drops every cached token for the user and rejects tokens issued before now
+    public void revokeUser(String uid) {
+        revokedAt.put(uid, epochSeconds.getAsLong());
+        cache.asMap().values().removeIf(token -> token.getUid().equals(uid));
+    }
+
+    public void revokeToken(String idToken) {
+        cache.invalidate(cacheKey(idToken));
+    }
+
+    private boolean isRevoked(VerifiedToken token) {
+        Long revokedSince = revokedAt.getIfPresent(token.getUid());
+        return revokedSince != null && token.getIssuedAt() <= revokedSince;
+    }
+
+    // --- Statistics ---
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    long getRevokedUserCount() {
+        revokedAt.cleanUp();
+        return revokedAt.estimatedSize();
+    }
+
+    private static String cacheKey(String idToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(idToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not found", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+// src/main/java/com/voting/blockchain/security/VerifiedToken.java
+package com.voting.blockchain.security;
+
+// What we keep from a verified ID token: who it belongs to and when it was issued / expires (epoch seconds)
+public class VerifiedToken {
+    private final String uid;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    public VerifiedToken(String uid, long issuedAt, long expiresAt) {
+        this.uid = uid;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUid() {
+        return uid;
+    }
+
+    public long getIssuedAt() {
+        return issuedAt;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+}
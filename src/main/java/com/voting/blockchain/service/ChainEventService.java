@@ -0,0 +1,375 @@
+// src/main/java/com/voting/blockchain/service/ChainEventService.java
+package com.voting.blockchain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.blockchain.config.ExecutionProperties;
+import com.voting.blockchain.core.Blockchain;
+import com.voting.blockchain.core.ChainListener;
+import com.voting.blockchain.core.ImmutableChain;
+import com.voting.blockchain.core.TallyIndex;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockHeader;
+import com.voting.blockchain.model.VoteTransaction;
+import com.voting.blockchain.util.VirtualThreads;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pushes chain changes to Server-Sent Events subscribers, so observers need not poll.
+ *
+ * Events (data is JSON; the id is a block index):
+ *   snapshot  on connect: length, tip hash, confirmed tally and mempool depth   id = tip index
+ *   block     a block joined the chain (its header)                             id = block index
+ *   tally     per-candidate change in confirmed votes since the previous event  id = tip index
+ *   reorg     blocks after forkIndex were replaced by a fork                    id = forkIndex
+ *   mempool   pending-vote depth, sampled every mempool-interval-ms when it changed (no id)
+ *
+ * A client that reconnects with Last-Event-ID (EventSource does this by itself) gets the blocks
+ * after that index replayed, then live events; if it is too far behind it gets a fresh snapshot.
+ *
+ * Changes are found by comparing the chain with the last view published, so every subscriber
+ * sees blocks in order however listener calls interleave. Each event is rendered to bytes once
+ * and queued for every subscriber. Queues are bounded at buffer-size: a subscriber that falls
+ * that far behind is disconnected (it can resume with Last-Event-ID) instead of holding up the
+ * others or growing without limit. Queues are drained by writer threads, a few platform threads
+ * or one virtual thread per write in blockchain.execution.mode=virtual.
+ */
+@Service
+public class ChainEventService implements ChainListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ChainEventService.class);
+
+    private final Blockchain blockchain;
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long mempoolIntervalMillis;
+    private final long heartbeatIntervalMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService writers;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("keep-alive").build();
+
+    // Guarded by this: what subscribers have been told so far
+    private ImmutableChain published;
+    private int publishedMempoolDepth = -1;
+
+    // --- Statistics ---
+    private final LongAdder droppedSlow = new LongAdder();
+    private final LongAdder rejectedFull = new LongAdder();
+
+    public ChainEventService(Blockchain blockchain, ObjectMapper objectMapper,
+                             @Value("${blockchain.events.max-subscribers:5000}") int maxSubscribers,
+                             @Value("${blockchain.events.buffer-size:256}") int bufferSize,
+                             @Value("${blockchain.events.timeout-ms:1800000}") long timeoutMillis,
+                             @Value("${blockchain.events.mempool-interval-ms:1000}") long mempoolIntervalMillis,
+                             @Value("${blockchain.events.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                             @Value("${blockchain.events.writer-threads:4}") int writerThreads,
+                             ExecutionProperties execution) {
+        this.blockchain = blockchain;
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = Math.max(8, bufferSize);
+        this.timeoutMillis = timeoutMillis;
+        this.mempoolIntervalMillis = Math.max(100, mempoolIntervalMillis);
+        this.heartbeatIntervalMillis = Math.max(1000, heartbeatIntervalMillis);
+        this.published = blockchain.getChain();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (execution.useVirtualThreads()) {
+            this.writers = VirtualThreads.newThreadPerTaskExecutor("sse-writer-");
+        } else {
+            AtomicInteger writerCounter = new AtomicInteger();
+            this.writers = Executors.newFixedThreadPool(Math.max(1, writerThreads), runnable -> {
+                Thread thread = new Thread(runnable, "sse-writer-" + writerCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        blockchain.addChainListener(this);
+        scheduler.scheduleWithFixedDelay(this::publishMempoolDepth, mempoolIntervalMillis, mempoolIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.close(false));
+        writers.shutdownNow();
+    }
+
+    // --- Subscribing ---
+
+    /**
+     * Opens an event stream, resuming after the given block index if there is one.
+     * @throws RejectedExecutionException if max-subscribers streams are already open
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            rejectedFull.increment();
+            throw new RejectedExecutionException("Too many event stream subscribers (" + maxSubscribers + ")");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscriber.close(false));
+        emitter.onTimeout(() -> subscriber.close(false));
+        emitter.onError(error -> subscriber.close(false));
+
+        synchronized (this) {
+            publishChainChanges(); // Catch up first, so the replay or snapshot ends where live events start
+            int tip = published.size() - 1;
+            // Leave room in the buffer for live events arriving while the replay is written
+            if (lastEventId != null && lastEventId >= 0 && lastEventId <= tip && tip - lastEventId <= bufferSize / 2) {
+                List<Block> missed = published.subList((int) (lastEventId + 1), tip + 1);
+                for (Block block : missed) {
+                    subscriber.offer(blockEvent(block));
+                }
+                if (!missed.isEmpty()) {
+                    subscriber.offer(tallyEvent(List.of(), missed, tip));
+                }
+            } else {
+                subscriber.offer(snapshotEvent());
+            }
+            if (!subscriber.closed.get()) {
+                subscribers.add(subscriber);
+            }
+        }
+        subscriber.scheduleDrain();
+        return emitter;
+    }
+
+    // --- Publishing ---
+
+    @Override
+    public void onChainUpdated(List<Block> added, List<Block> removed, String source) {
+        synchronized (this) {
+            publishChainChanges();
+        }
+    }
+
+    // Tells subscribers how the chain differs from the last published view; caller holds this
+    private void publishChainChanges() {
+        ImmutableChain current = blockchain.getChain();
+        ImmutableChain previous = published;
+        int fork = Math.min(previous.size(), current.size()) - 1;
+        while (fork >= 0 && !previous.get(fork).getHash().equals(current.get(fork).getHash())) {
+            fork--;
+        }
+        List<Block> removed = previous.subList(fork + 1, previous.size());
+        List<Block> added = current.subList(fork + 1, current.size());
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        if (!removed.isEmpty()) {
+            Map<String, Object> reorg = new LinkedHashMap<>();
+            reorg.put("forkIndex", fork);
+            reorg.put("removedBlocks", removed.size());
+            reorg.put("addedBlocks", added.size());
+            broadcast(event("reorg", (long) fork, reorg));
+        }
+        for (Block block : added) {
+            broadcast(blockEvent(block));
+        }
+        broadcast(tallyEvent(removed, added, current.size() - 1));
+        published = current;
+    }
+
+    private void publishMempoolDepth() {
+        int depth = blockchain.getMempool().size();
+        synchronized (this) {
+            if (depth == publishedMempoolDepth || subscribers.isEmpty()) {
+                return;
+            }
+            publishedMempoolDepth = depth;
+            Map<String, Object> mempool = new LinkedHashMap<>();
+            mempool.put("depth", depth);
+            mempool.put("capacity", blockchain.getMempool().getCapacity());
+            broadcast(event("mempool", null, mempool));
+        }
+    }
+
+    // A comment line now and then stops proxies from closing idle streams
+    private void sendHeartbeat() {
+        broadcast(heartbeat);
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(event)) {
+                subscriber.scheduleDrain();
+            }
+        }
+    }
+
+    // --- Events ---
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> blockEvent(Block block) {
+        return event("block", (long) block.getIndex(), new BlockHeader(block));
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> tallyEvent(List<Block> removed, List<Block> added, int tip) {
+        Map<String, Long> delta = new HashMap<>();
+        for (Block block : removed) {
+            countVotes(block, delta, -1);
+        }
+        for (Block block : added) {
+            countVotes(block, delta, 1);
+        }
+        delta.values().removeIf(change -> change == 0);
+        Map<String, Object> tally = new LinkedHashMap<>();
+        tally.put("blockIndex", tip);
+        tally.put("delta", delta);
+        return event("tally", (long) tip, tally);
+    }
+
+    private static void countVotes(Block block, Map<String, Long> delta, long sign) {
+        if (block.getIndex() > 0) { // The genesis system marker is not a vote
+            for (VoteTransaction transaction : block.getData()) {
+                delta.merge(transaction.getCandidateId(), sign, Long::sum);
+            }
+        }
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> snapshotEvent() {
+        TallyIndex tally = blockchain.getTally();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("length", published.size());
+        snapshot.put("tipHash", published.getLast().getHash());
+        snapshot.put("confirmed", tally.getConfirmed());
+        snapshot.put("totalConfirmed", tally.getTotalConfirmed());
+        snapshot.put("countedUpToBlock", tally.getCountedUpToBlock());
+        snapshot.put("mempoolDepth", blockchain.getMempool().size());
+        return event("snapshot", (long) published.size() - 1, snapshot);
+    }
+
+    // Serialised once, then the same bytes go to every subscriber
+    private Set<ResponseBodyEmitter.DataWithMediaType> event(String name, Long id, Object data) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise " + name + " event", e);
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(json);
+        if (id != null) {
+            builder.id(Long.toString(id));
+        }
+        return builder.build();
+    }
+
+    // --- Statistics ---
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedSlow() {
+        return droppedSlow.sum();
+    }
+
+    public long getRejectedFull() {
+        return rejectedFull.sum();
+    }
+
+    // One open stream and the events waiting to be written to it
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // Queues the event; returns false (disconnecting the subscriber if it fell behind) if it was not queued
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (closed.get()) {
+                return false;
+            }
+            if (!queue.offer(event)) {
+                droppedSlow.increment();
+                log.debug("Disconnecting an event subscriber that fell {} events behind.", bufferSize);
+                close(true);
+                return false;
+            }
+            return true;
+        }
+
+        void scheduleDrain() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close(false); // Shutting down
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(false); // The client went away
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                scheduleDrain(); // Offered after our last poll but before draining was cleared
+            }
+        }
+
+        // Unsubscribes; completes the response on a writer thread, since a write may be blocked on it
+        void close(boolean completeResponse) {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                queue.clear();
+                if (completeResponse) {
+                    try {
+                        writers.execute(emitter::complete);
+                    } catch (RejectedExecutionException e) {
+                        emitter.complete();
+                    }
+                }
+            }
+        }
+    }
+}
@@ -4,12 +4,17 @@ package com.voting.blockchain.service;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
+import com.voting.blockchain.security.IdTokenVerifier;
+import com.voting.blockchain.security.InvalidTokenException;
+import com.voting.blockchain.security.VerifiedToken;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 import java.util.concurrent.ExecutionException; // Not strictly needed for these methods, but often comes with Firebase futures
 
 @Service // Marks this as a Spring service component
-public class FirebaseAuthenticationService {
+public class FirebaseAuthenticationService implements IdTokenVerifier {
 
     // Method to verify a Firebase ID token
     public FirebaseToken verifyToken(String idToken) throws FirebaseAuthException {
@@ -20,6 +25,20 @@ public class FirebaseAuthenticationService {
         return FirebaseAuth.getInstance().verifyIdToken(idToken);
     }
 
+    // Full verification for TokenVerificationCache: keeps just the UID and the token's iat/exp claims
+    @Override
+    public VerifiedToken verify(String idToken) throws InvalidTokenException {
+        try {
+            FirebaseToken token = verifyToken(idToken);
+            Map<String, Object> claims = token.getClaims();
+            long issuedAt = ((Number) claims.get("iat")).longValue();
+            long expiresAt = ((Number) claims.get("exp")).longValue();
+            return new VerifiedToken(token.getUid(), issuedAt, expiresAt);
+        } catch (FirebaseAuthException e) {
+            throw new InvalidTokenException(e.getMessage(), e);
+        }
+    }
+
     // Method to get a user by their UID
     public String getUserEmailByUid(String uid) throws FirebaseAuthException {
         return FirebaseAuth.getInstance().getUser(uid).getEmail();
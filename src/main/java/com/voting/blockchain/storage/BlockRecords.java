@@ -0,0 +1,59 @@
+// src/main/java/com/voting/blockchain/storage/BlockRecords.java
+package com.voting.blockchain.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.firestore.Blob;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockCodec;
+import com.voting.blockchain.model.VoteTransaction;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Converts blocks to and from Firestore document fields (also the JSON records of early local logs).
+// Transactions are written BlockCodec-encoded to "dataBin"; older documents keep a JSON string in "dataJson".
+final class BlockRecords {
+
+    private static final TypeReference<List<VoteTransaction>> TRANSACTION_LIST = new TypeReference<>() {};
+
+    private BlockRecords() {
+    }
+
+    static Map<String, Object> toMap(Block block) {
+        Map<String, Object> blockMap = new HashMap<>();
+        blockMap.put("index", block.getIndex());
+        blockMap.put("timestamp", block.getTimestamp());
+        blockMap.put("previousHash", block.getPreviousHash());
+        blockMap.put("hash", block.getHash());
+        blockMap.put("nonce", block.getNonce());
+        blockMap.put("version", block.getVersion());
+        blockMap.put("merkleRoot", block.getMerkleRoot());
+        blockMap.put("difficultyBits", block.getDifficultyBits());
+        blockMap.put("dataBin", Blob.fromBytes(BlockCodec.encodeTransactions(block.getData())));
+        return blockMap;
+    }
+
+    static Block fromMap(Map<String, Object> blockMap, ObjectMapper objectMapper) throws JsonProcessingException {
+        Object dataBin = blockMap.get("dataBin");
+        List<VoteTransaction> transactions = dataBin instanceof Blob blob
+                ? BlockCodec.decodeTransactions(blob.toByteString().asReadOnlyByteBuffer())
+                : objectMapper.readValue((String) blockMap.get("dataJson"), TRANSACTION_LIST);
+        // Blocks written before Merkle roots existed have no version field
+        Number version = (Number) blockMap.get("version");
+        // ...and blocks written before per-block difficulty have no difficultyBits
+        Number difficultyBits = (Number) blockMap.get("difficultyBits");
+        return Block.restore(
+                ((Number) blockMap.get("index")).intValue(),
+                ((Number) blockMap.get("timestamp")).longValue(),
+                (String) blockMap.get("previousHash"),
+                transactions,
+                (String) blockMap.get("hash"),
+                ((Number) blockMap.get("nonce")).intValue(),
+                version == null ? Block.LEGACY_VERSION : version.intValue(),
+                (String) blockMap.get("merkleRoot"),
+                difficultyBits == null ? Block.LEGACY_DIFFICULTY_BITS : difficultyBits.intValue());
+    }
+}
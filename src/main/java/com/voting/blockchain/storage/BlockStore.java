@@ -0,0 +1,25 @@
+// src/main/java/com/voting/blockchain/storage/BlockStore.java
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.Block;
+
+import java.util.List;
+
+/**
+ * Durable storage for mined blocks. Blocks are appended in index order and read back in
+ * index order, which is all the node needs for startup replay.
+ */
+public interface BlockStore {
+
+    // Persists the block; returns once it is stored according to the store's durability policy
+    void append(Block block) throws StorageException;
+
+    // All stored blocks with index >= fromIndex, in index order
+    List<Block> loadFrom(int fromIndex) throws StorageException;
+
+    // Deletes every block with index >= fromIndex, so blocks of a heavier fork can be appended in their place
+    void truncate(int fromIndex) throws StorageException;
+
+    // Human-readable name for log messages, e.g. "Firestore" or "local log at ./data/blocks"
+    String getName();
+}
@@ -0,0 +1,41 @@
+// src/main/java/com/voting/blockchain/storage/ChainSnapshot.java
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.Block;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chain state as of one block: the blocks up to and including it, the confirmed tally and the
+ * voters with a confirmed vote. Restoring it replaces a full load and index rebuild.
+ */
+public class ChainSnapshot {
+
+    private final List<Block> blocks;
+    private final Map<String, Long> confirmedTally;
+    private final Collection<String> voters;
+
+    public ChainSnapshot(List<Block> blocks, Map<String, Long> confirmedTally, Collection<String> voters) {
+        this.blocks = blocks;
+        this.confirmedTally = confirmedTally;
+        this.voters = voters;
+    }
+
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    public Map<String, Long> getConfirmedTally() {
+        return confirmedTally;
+    }
+
+    public Collection<String> getVoters() {
+        return voters;
+    }
+
+    public Block getLastBlock() {
+        return blocks.get(blocks.size() - 1);
+    }
+}
@@ -0,0 +1,93 @@
+// src/main/java/com/voting/blockchain/storage/FirestoreBlockStore.java
+package com.voting.blockchain.storage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.WriteBatch;
+import com.voting.blockchain.model.Block;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+// Stores each block as one Firestore document, keyed by block index
+public class FirestoreBlockStore implements BlockStore {
+
+    static final String APP_ID = "decentralized-voting-app"; // You can change this
+    static final String BLOCKS_COLLECTION_PATH = "artifacts/" + APP_ID + "/public/data/blocks";
+
+    private final CollectionReference collection;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public FirestoreBlockStore(Firestore firestore) {
+        this.collection = firestore.collection(BLOCKS_COLLECTION_PATH);
+    }
+
+    @Override
+    public void append(Block block) throws StorageException {
+        try {
+            collection.document(String.valueOf(block.getIndex()))
+                    .set(BlockRecords.toMap(block))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while saving block " + block.getIndex(), e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Error saving block " + block.getIndex() + " to Firestore: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Block> loadFrom(int fromIndex) throws StorageException {
+        try {
+            List<QueryDocumentSnapshot> documents = collection
+                    .whereGreaterThanOrEqualTo("index", fromIndex)
+                    .orderBy("index")
+                    .get()
+                    .get()
+                    .getDocuments();
+            List<Block> blocks = new ArrayList<>(documents.size());
+            for (QueryDocumentSnapshot document : documents) {
+                blocks.add(BlockRecords.fromMap(document.getData(), objectMapper));
+            }
+            return blocks;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while loading blocks", e);
+        } catch (ExecutionException | JsonProcessingException | IllegalArgumentException e) {
+            throw new StorageException("Error loading blocks from Firestore: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void truncate(int fromIndex) throws StorageException {
+        try {
+            List<QueryDocumentSnapshot> documents = collection
+                    .whereGreaterThanOrEqualTo("index", fromIndex)
+                    .get()
+                    .get()
+                    .getDocuments();
+            for (int start = 0; start < documents.size(); start += PendingTransactionWriter.FIRESTORE_BATCH_LIMIT) {
+                WriteBatch batch = collection.getFirestore().batch();
+                int end = Math.min(start + PendingTransactionWriter.FIRESTORE_BATCH_LIMIT, documents.size());
+                for (QueryDocumentSnapshot document : documents.subList(start, end)) {
+                    batch.delete(document.getReference());
+                }
+                batch.commit().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while deleting blocks from " + fromIndex, e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Error deleting blocks from " + fromIndex + " in Firestore: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Firestore";
+    }
+}
@@ -0,0 +1,90 @@
+// src/main/java/com/voting/blockchain/storage/FirestoreMempoolStore.java
+package com.voting.blockchain.storage;
+
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.WriteBatch;
+import com.voting.blockchain.model.VoteTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps pending votes in a Firestore collection, one document per vote with the transaction ID
+ * as document ID. Saves go through the PendingTransactionWriter group commit.
+ */
+public class FirestoreMempoolStore implements MempoolStore {
+
+    static final String PENDING_TX_COLLECTION_PATH = "artifacts/" + FirestoreBlockStore.APP_ID + "/public/data/pendingTransactions";
+
+    private final Firestore firestore;
+    private final CollectionReference collection;
+    private final PendingTransactionWriter writer;
+
+    public FirestoreMempoolStore(Firestore firestore, int queueCapacity, int maxBatchSize, long maxDelayMillis,
+                                 long enqueueTimeoutMillis, int maxInFlightBatches) {
+        this.firestore = firestore;
+        this.collection = firestore.collection(PENDING_TX_COLLECTION_PATH);
+        this.writer = new PendingTransactionWriter(firestore, collection, queueCapacity, maxBatchSize,
+                maxDelayMillis, enqueueTimeoutMillis, maxInFlightBatches);
+    }
+
+    @Override
+    public CompletableFuture<String> save(VoteTransaction transaction) {
+        return writer.enqueue(transaction);
+    }
+
+    @Override
+    public List<VoteTransaction> loadAll() throws StorageException {
+        try {
+            List<QueryDocumentSnapshot> documents = collection.get().get().getDocuments();
+            List<VoteTransaction> transactions = new ArrayList<>(documents.size());
+            for (QueryDocumentSnapshot document : documents) {
+                transactions.add(document.toObject(VoteTransaction.class));
+            }
+            return transactions;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while loading pending transactions", e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Error loading pending transactions from Firestore: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void remove(List<VoteTransaction> transactions) throws StorageException {
+        try {
+            for (int start = 0; start < transactions.size(); start += PendingTransactionWriter.FIRESTORE_BATCH_LIMIT) {
+                WriteBatch batch = firestore.batch();
+                int end = Math.min(start + PendingTransactionWriter.FIRESTORE_BATCH_LIMIT, transactions.size());
+                for (VoteTransaction transaction : transactions.subList(start, end)) {
+                    batch.delete(collection.document(transaction.calculateTxId()));
+                }
+                batch.commit().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while removing pending transactions", e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Error removing pending transactions from Firestore: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return writer.getQueueDepth();
+    }
+
+    @Override
+    public String getName() {
+        return "Firestore";
+    }
+
+    // Gives queued votes a moment to be committed before the application stops
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,41 @@
+// src/main/java/com/voting/blockchain/storage/InMemoryBlockStore.java
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.Block;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps blocks on the heap only. Nothing survives a restart; meant for load tests and local
+ * experiments where Firestore and disk I/O should not be part of the measurement.
+ */
+public class InMemoryBlockStore implements BlockStore {
+
+    private final List<Block> blocks = new ArrayList<>();
+
+    @Override
+    public synchronized void append(Block block) throws StorageException {
+        if (block.getIndex() != blocks.size()) {
+            throw new StorageException("Block " + block.getIndex() + " does not follow the " + blocks.size() + " stored blocks");
+        }
+        blocks.add(block);
+    }
+
+    @Override
+    public synchronized List<Block> loadFrom(int fromIndex) {
+        return fromIndex >= blocks.size() ? List.of() : new ArrayList<>(blocks.subList(Math.max(0, fromIndex), blocks.size()));
+    }
+
+    @Override
+    public synchronized void truncate(int fromIndex) {
+        if (fromIndex < blocks.size()) {
+            blocks.subList(Math.max(0, fromIndex), blocks.size()).clear();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+}
@@ -0,0 +1,45 @@
+// src/main/java/com/voting/blockchain/storage/InMemoryMempoolStore.java
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.VoteTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps pending votes on the heap only, keyed by transaction ID. Saves complete immediately.
+ * Nothing survives a restart; meant for load tests and local experiments.
+ */
+public class InMemoryMempoolStore implements MempoolStore {
+
+    private final Map<String, VoteTransaction> pending = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<String> save(VoteTransaction transaction) {
+        String txId = transaction.calculateTxId();
+        pending.put(txId, transaction);
+        return CompletableFuture.completedFuture(txId);
+    }
+
+    @Override
+    public List<VoteTransaction> loadAll() {
+        List<VoteTransaction> transactions = new ArrayList<>(pending.values());
+        transactions.sort((a, b) -> Long.compare(a.getTimestamp(), b.getTimestamp()));
+        return transactions;
+    }
+
+    @Override
+    public void remove(List<VoteTransaction> transactions) {
+        for (VoteTransaction transaction : transactions) {
+            pending.remove(transaction.calculateTxId());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+}
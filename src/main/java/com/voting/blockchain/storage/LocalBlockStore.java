@@ -0,0 +1,88 @@
+// src/main/java/com/voting/blockchain/storage/LocalBlockStore.java
+package com.voting.blockchain.storage;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores blocks in a local SegmentedLog, one BlockCodec record per block, so record N is always
+ * block N. Works without any network access; startup replay is a sequential read of the segment
+ * files. Records written as JSON by earlier versions are still read.
+ */
+public class LocalBlockStore implements BlockStore {
+
+    private static final TypeReference<Map<String, Object>> RECORD_MAP = new TypeReference<>() {};
+
+    private final SegmentedLog log;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String name;
+    private final Object appendLock = new Object();
+
+    public LocalBlockStore(SegmentedLog log, String location) {
+        this.log = log;
+        this.name = "local log at " + location;
+    }
+
+    @Override
+    public void append(Block block) throws StorageException {
+        try {
+            synchronized (appendLock) {
+                if (block.getIndex() != log.size()) {
+                    throw new StorageException("Cannot append block " + block.getIndex() + ": the log holds " + log.size() + " blocks");
+                }
+                long recordIndex = log.append(BlockCodec.encodeBlock(block));
+                log.commit(recordIndex);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Error appending block " + block.getIndex() + " to " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Block> loadFrom(int fromIndex) throws StorageException {
+        List<Block> blocks = new ArrayList<>();
+        try {
+            synchronized (appendLock) { // truncate() may delete the segments being read
+                log.replay(fromIndex, (recordIndex, payload) -> blocks.add(decode(payload)));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new StorageException("Error reading blocks from " + name + ": " + e.getMessage(), e);
+        }
+        return blocks;
+    }
+
+    @Override
+    public void truncate(int fromIndex) throws StorageException {
+        try {
+            synchronized (appendLock) {
+                log.truncate(fromIndex);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Error truncating " + name + " at block " + fromIndex + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Block decode(byte[] payload) throws IOException {
+        if (payload.length > 0 && payload[0] == '{') { // JSON record from before the binary codec
+            return BlockRecords.fromMap(objectMapper.readValue(payload, RECORD_MAP), objectMapper);
+        }
+        return BlockCodec.decodeBlock(ByteBuffer.wrap(payload));
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public void close() throws IOException {
+        log.close();
+    }
+}
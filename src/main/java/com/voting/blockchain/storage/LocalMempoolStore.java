@@ -0,0 +1,159 @@
+// src/main/java/com/voting/blockchain/storage/LocalMempoolStore.java
+package com.voting.blockchain.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.blockchain.model.BlockCodec;
+import com.voting.blockchain.model.VoteTransaction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps pending votes in a local SegmentedLog as a journal of ADD (BlockCodec vote) and REMOVE
+ * (transaction ID) records. Loading replays the journal. Once every journalled vote has been
+ * mined the log is reset. Under sustained voting the mempool is rarely empty, so the journal is
+ * also compacted whenever records of mined votes outnumber the pending ones: the pending votes'
+ * ADD records are copied into a fresh segment and the older segments are deleted. Either way the
+ * journal stays proportional to the votes pending, not to every vote ever admitted.
+ *
+ * Saves append concurrently and share fsyncs; removal, reset and compaction take the lock
+ * exclusively, and replays hold it shared so the segments they read are not deleted under them.
+ */
+public class LocalMempoolStore implements MempoolStore {
+
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    // Smallest number of dead records worth a compaction
+    private static final long MIN_COMPACTION_RECORDS = 10_000;
+
+    private final SegmentedLog log;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String name;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Transaction IDs journalled as added and not yet removed, with the index of their ADD record
+    private final Map<String, Long> live = new ConcurrentHashMap<>();
+
+    public LocalMempoolStore(SegmentedLog log, String location) throws StorageException {
+        this.log = log;
+        this.name = "local log at " + location;
+        replay(new LinkedHashMap<>(), live);
+    }
+
+    @Override
+    public CompletableFuture<String> save(VoteTransaction transaction) {
+        String txId = transaction.calculateTxId();
+        lock.readLock().lock();
+        try {
+            long recordIndex = log.append(record(ADD, BlockCodec.encodeTransaction(transaction)));
+            live.put(txId, recordIndex);
+            log.commit(recordIndex);
+            return CompletableFuture.completedFuture(txId);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(
+                    new StorageException("Error saving pending transaction to " + name + ": " + e.getMessage(), e));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<VoteTransaction> loadAll() throws StorageException {
+        Map<String, VoteTransaction> pending = new LinkedHashMap<>();
+        replay(pending, new HashMap<>());
+        return new ArrayList<>(pending.values());
+    }
+
+    // Replays the journal into the pending votes and the index of each one's ADD record, both by transaction ID
+    private void replay(Map<String, VoteTransaction> pending, Map<String, Long> addRecords) throws StorageException {
+        lock.readLock().lock();
+        try {
+            log.replay(log.firstIndex(), (recordIndex, payload) -> {
+                if (payload[0] == ADD) {
+                    VoteTransaction transaction = payload.length > 1 && payload[1] == '{' // JSON from before the binary codec
+                            ? objectMapper.readValue(payload, 1, payload.length - 1, VoteTransaction.class)
+                            : BlockCodec.decodeTransaction(ByteBuffer.wrap(payload, 1, payload.length - 1));
+                    String txId = transaction.calculateTxId();
+                    if (!pending.containsKey(txId)) { // A compaction may have copied it; keep the original position
+                        pending.put(txId, transaction);
+                    }
+                    addRecords.put(txId, recordIndex);
+                } else {
+                    String txId = new String(payload, 1, payload.length - 1, StandardCharsets.UTF_8);
+                    pending.remove(txId);
+                    addRecords.remove(txId);
+                }
+            });
+        } catch (IOException | IllegalArgumentException e) {
+            throw new StorageException("Error reading pending transactions from " + name + ": " + e.getMessage(), e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(List<VoteTransaction> transactions) throws StorageException {
+        lock.writeLock().lock();
+        try {
+            long lastRecord = -1;
+            for (VoteTransaction transaction : transactions) {
+                String txId = transaction.calculateTxId();
+                if (live.remove(txId) != null) {
+                    lastRecord = log.append(record(REMOVE, txId.getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            long deadRecords = log.size() - log.firstIndex() - live.size();
+            if (live.isEmpty()) {
+                log.reset(); // Nothing pending: drop the journal instead of letting it grow
+            } else if (deadRecords >= MIN_COMPACTION_RECORDS && deadRecords > live.size()) {
+                compact();
+            } else if (lastRecord >= 0) {
+                log.commit(lastRecord);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Error removing pending transactions from " + name + ": " + e.getMessage(), e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Copies the pending votes' ADD records, oldest first, into a fresh segment and deletes the
+    // segments before it. A crash part-way leaves both copies, which replay() reads as one vote.
+    private void compact() throws IOException {
+        List<Map.Entry<String, Long>> pending = new ArrayList<>(live.entrySet());
+        pending.sort(Map.Entry.comparingByValue());
+        long start = log.roll();
+        long lastRecord = start - 1;
+        for (Map.Entry<String, Long> entry : pending) {
+            lastRecord = log.append(log.read(entry.getValue()));
+            live.put(entry.getKey(), lastRecord);
+        }
+        log.commit(lastRecord);
+        log.dropBefore(start);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public void close() throws IOException {
+        log.close();
+    }
+
+    private static byte[] record(byte op, byte[] body) {
+        byte[] record = new byte[body.length + 1];
+        record[0] = op;
+        System.arraycopy(body, 0, record, 1, body.length);
+        return record;
+    }
+}
@@ -0,0 +1,29 @@
+// src/main/java/com/voting/blockchain/storage/MempoolStore.java
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.VoteTransaction;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Durable storage for votes that have been admitted but not yet mined. Entries are keyed by
+ * transaction ID, so mining removes exactly the votes it put into a block.
+ */
+public interface MempoolStore {
+
+    // Completes with the transaction ID once the vote is durable
+    CompletableFuture<String> save(VoteTransaction transaction);
+
+    List<VoteTransaction> loadAll() throws StorageException;
+
+    // Removes the given (mined) transactions; votes admitted meanwhile are left alone
+    void remove(List<VoteTransaction> transactions) throws StorageException;
+
+    // Votes accepted by save() but not yet durable
+    default int getQueueDepth() {
+        return 0;
+    }
+
+    String getName();
+}
@@ -0,0 +1,168 @@
+// src/main/java/com/voting/blockchain/storage/PendingTransactionWriter.java
+package com.voting.blockchain.storage;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.voting.blockchain.model.VoteTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence for pending votes. Callers enqueue a vote and get a future that
+ * completes once the vote is durable in Firestore. A flusher thread group-commits queued votes
+ * in WriteBatches, cutting a batch when it reaches the size limit or when the oldest vote in it
+ * has waited the maximum delay. A few batches may be in flight at once.
+ *
+ * The queue is bounded: when it stays full for longer than the enqueue timeout the vote is
+ * refused with RejectedExecutionException, which pushes back on the HTTP layer.
+ */
+class PendingTransactionWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingTransactionWriter.class);
+
+    // Firestore rejects WriteBatches with more than 500 operations
+    static final int FIRESTORE_BATCH_LIMIT = 500;
+
+    private final CollectionReference collection;
+    private final Firestore firestore;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long enqueueTimeoutMillis;
+    private final Semaphore inFlightBatches;
+    private final Thread flusher;
+    private volatile boolean closed;
+
+    PendingTransactionWriter(Firestore firestore, CollectionReference collection, int queueCapacity, int maxBatchSize,
+                             long maxDelayMillis, long enqueueTimeoutMillis, int maxInFlightBatches) {
+        this.firestore = firestore;
+        this.collection = collection;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, FIRESTORE_BATCH_LIMIT));
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.inFlightBatches = new Semaphore(Math.max(1, maxInFlightBatches));
+        this.flusher = new Thread(this::flushLoop, "pending-tx-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Queues the vote for the next group commit. The future completes with the Firestore
+     * document ID (the transaction ID) once the batch containing it has been committed.
+     */
+    CompletableFuture<String> enqueue(VoteTransaction transaction) {
+        PendingWrite write = new PendingWrite(transaction);
+        if (closed) {
+            write.result.completeExceptionally(new RejectedExecutionException("Pending transaction writer is shut down"));
+            return write.result;
+        }
+        try {
+            if (!queue.offer(write, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                write.result.completeExceptionally(new RejectedExecutionException("Pending transaction write queue is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write.result.completeExceptionally(new RejectedExecutionException("Interrupted while queueing pending transaction", e));
+        }
+        return write.result;
+    }
+
+    private void flushLoop() {
+        while (!closed || !queue.isEmpty()) {
+            List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                inFlightBatches.acquire();
+            } catch (InterruptedException e) {
+                batch.forEach(write -> write.result.completeExceptionally(e));
+                return;
+            }
+            try {
+                commit(batch);
+            } catch (RuntimeException e) {
+                inFlightBatches.release();
+                log.error("Error building pending transaction batch: {}", e.getMessage());
+                batch.forEach(write -> write.result.completeExceptionally(e));
+            }
+        }
+    }
+
+    private void commit(List<PendingWrite> batch) {
+        WriteBatch writeBatch = firestore.batch();
+        List<String> documentIds = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            // The transaction ID doubles as the document ID, so a retried write is idempotent
+            String documentId = write.transaction.calculateTxId();
+            writeBatch.set(collection.document(documentId), write.transaction);
+            documentIds.add(documentId);
+        }
+
+        ApiFutures.addCallback(writeBatch.commit(), new ApiFutureCallback<List<WriteResult>>() {
+            @Override
+            public void onSuccess(List<WriteResult> results) {
+                inFlightBatches.release();
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).result.complete(documentIds.get(i));
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable error) {
+                inFlightBatches.release();
+                log.error("Error group-committing {} pending transactions: {}", batch.size(), error.getMessage());
+                batch.forEach(write -> write.result.completeExceptionally(error));
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    // Stops accepting votes and gives the flusher a moment to commit what is already queued
+    void shutdown() throws InterruptedException {
+        closed = true;
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private static final class PendingWrite {
+        private final VoteTransaction transaction;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+
+        private PendingWrite(VoteTransaction transaction) {
+            this.transaction = transaction;
+        }
+    }
+}
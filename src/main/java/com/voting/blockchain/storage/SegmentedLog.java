@@ -0,0 +1,444 @@
+// src/main/java/com/voting/blockchain/storage/SegmentedLog.java
+package com.voting.blockchain.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of binary records split across fixed-size segment files.
+ *
+ * Every record is framed as [int payloadLength][int crc32(payload)][payload]. Segment files are
+ * named after the index of their first record. On open, every segment is scanned to rebuild the
+ * in-memory offset index (record index -> file position); a torn or corrupt record at the tail of
+ * the last segment (e.g. after a crash mid-write) is truncated away. Whole segments at the head
+ * can be dropped (see dropBefore), so the first record may have an index above zero.
+ *
+ * Durability follows the configured FsyncPolicy. With ALWAYS, commit() forces the active segment
+ * before returning, and concurrent committers share a single fsync (group commit).
+ *
+ * read() and replay() use the segment files outside the monitor so they don't stall appends.
+ * reset(), dropBefore() and truncate() close and delete segments, so callers must not run them
+ * while a read or replay is in progress.
+ */
+public class SegmentedLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedLog.class);
+
+    public enum FsyncPolicy {
+        ALWAYS,   // fsync before commit() returns
+        INTERVAL, // fsync in the background every fsync interval
+        NEVER     // leave it to the operating system
+    }
+
+    // Receives records during replay
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(long recordIndex, byte[] payload) throws IOException;
+    }
+
+    private static final int HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final List<Segment> segments = new ArrayList<>();
+    private final Object forceLock = new Object();
+    private final ScheduledExecutorService intervalFlusher;
+    private long recordCount;
+    private volatile long durableCount;
+    private boolean closed;
+
+    public SegmentedLog(Path directory, long segmentBytes, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        Files.createDirectories(directory);
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Segment segment = openSegment(files.get(i));
+            if (i == 0) {
+                recordCount = segment.baseIndex; // Earlier segments were dropped
+            } else if (segment.baseIndex != recordCount) {
+                throw new IOException("Segment " + segment.path + " starts at record " + segment.baseIndex + " but " + recordCount + " records precede it");
+            }
+            segments.add(segment);
+            recover(segment, i == files.size() - 1);
+            recordCount = segment.baseIndex + segment.count;
+        }
+        if (segments.isEmpty()) {
+            segments.add(createSegment(0));
+        }
+        durableCount = recordCount;
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            intervalFlusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "log-fsync-" + directory.getFileName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            intervalFlusher.scheduleWithFixedDelay(() -> {
+                try {
+                    sync(Long.MAX_VALUE);
+                } catch (IOException e) {
+                    log.error("Background fsync of {} failed: {}", directory, e.getMessage());
+                }
+            }, fsyncIntervalMillis, fsyncIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            intervalFlusher = null;
+        }
+    }
+
+    /**
+     * Writes one record and returns its index. The record is readable immediately; call
+     * commit() to make it durable according to the fsync policy.
+     */
+    public long append(byte[] payload) throws IOException {
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Log " + directory + " is closed");
+            }
+            Segment active = activeSegment();
+            if (active.size > 0 && active.size + HEADER_BYTES + payload.length > segmentBytes) {
+                if (fsyncPolicy != FsyncPolicy.NEVER) {
+                    active.channel.force(false); // Keeps "force the active segment" sufficient in sync()
+                }
+                active = createSegment(recordCount);
+                segments.add(active);
+            }
+
+            ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+            record.putInt(payload.length).putInt(crc32(payload)).put(payload).flip();
+            long position = active.size;
+            while (record.hasRemaining()) {
+                position += active.channel.write(record, position);
+            }
+            active.addPosition(active.size);
+            active.size = position;
+            return recordCount++;
+        }
+    }
+
+    // Applies the fsync policy to everything up to and including the given record
+    public void commit(long recordIndex) throws IOException {
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            sync(recordIndex + 1);
+        }
+    }
+
+    public long append(byte[] payload, boolean commit) throws IOException {
+        long index = append(payload);
+        if (commit) {
+            commit(index);
+        }
+        return index;
+    }
+
+    // Forces the log to disk unless the first `count` records are already known to be durable.
+    // Whoever takes the force lock covers every record written so far, so waiting callers usually return without forcing.
+    public void sync(long count) throws IOException {
+        if (durableCount >= count) {
+            return;
+        }
+        synchronized (forceLock) {
+            if (durableCount >= count) {
+                return;
+            }
+            long target;
+            FileChannel channel;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                target = recordCount;
+                channel = activeSegment().channel;
+            }
+            channel.force(false);
+            durableCount = target;
+        }
+    }
+
+    // Index the next record will get
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    // Index of the oldest record still kept
+    public synchronized long firstIndex() {
+        return segments.get(0).baseIndex;
+    }
+
+    /**
+     * Reads one record. Must not run concurrently with reset(), dropBefore() or truncate().
+     */
+    public byte[] read(long recordIndex) throws IOException {
+        Segment segment;
+        long position;
+        synchronized (this) {
+            if (recordIndex < firstIndex() || recordIndex >= recordCount) {
+                throw new IOException("Record " + recordIndex + " does not exist (log has " + recordCount + ")");
+            }
+            segment = segmentFor(recordIndex);
+            position = segment.positions[(int) (recordIndex - segment.baseIndex)];
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(segment.channel, header, position);
+        header.flip();
+        int length = header.getInt();
+        int crc = header.getInt();
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(segment.channel, payload, position + HEADER_BYTES);
+        if (crc32(payload.array()) != crc) {
+            throw new IOException("CRC mismatch for record " + recordIndex + " in " + segment.path);
+        }
+        return payload.array();
+    }
+
+    /**
+     * Streams every record from fromIndex up to the current end of the log, in order.
+     * Segments are read sequentially through buffered streams, independent of concurrent appends.
+     * Must not run concurrently with reset(), dropBefore() or truncate().
+     */
+    public void replay(long fromIndex, RecordConsumer consumer) throws IOException {
+        long end;
+        List<Segment> snapshot;
+        synchronized (this) {
+            end = recordCount;
+            snapshot = new ArrayList<>(segments);
+        }
+        for (Segment segment : snapshot) {
+            long segmentEnd = Math.min(end, segment.baseIndex + segment.count);
+            if (segmentEnd <= fromIndex) {
+                continue;
+            }
+            long first = Math.max(fromIndex, segment.baseIndex);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment.path), 1 << 16))) {
+                in.skipNBytes(segment.positions[(int) (first - segment.baseIndex)]);
+                for (long index = first; index < segmentEnd; index++) {
+                    int length = in.readInt();
+                    int crc = in.readInt();
+                    byte[] payload = new byte[length];
+                    in.readFully(payload);
+                    if (crc32(payload) != crc) {
+                        throw new IOException("CRC mismatch for record " + index + " in " + segment.path);
+                    }
+                    consumer.accept(index, payload);
+                }
+            }
+        }
+    }
+
+    // Deletes every record, leaving an empty log
+    public synchronized void reset() throws IOException {
+        for (Segment segment : segments) {
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        }
+        segments.clear();
+        recordCount = 0;
+        durableCount = 0;
+        segments.add(createSegment(0));
+    }
+
+    /**
+     * Starts a new segment for the next record, unless the active one is still empty, so that
+     * everything written so far can later be dropped with dropBefore(). Returns the next index.
+     */
+    public synchronized long roll() throws IOException {
+        Segment active = activeSegment();
+        if (active.count > 0) {
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                active.channel.force(false);
+            }
+            segments.add(createSegment(recordCount));
+        }
+        return recordCount;
+    }
+
+    /**
+     * Deletes the segments whose records all come before `index`, oldest first; the segment that
+     * holds `index` and everything after it stay. The active segment is never deleted.
+     */
+    public synchronized void dropBefore(long index) throws IOException {
+        while (segments.size() > 1 && segments.get(1).baseIndex <= index) {
+            Segment dropped = segments.remove(0);
+            dropped.channel.close();
+            Files.deleteIfExists(dropped.path);
+        }
+    }
+
+    /**
+     * Drops every record from index `count` on, keeping the first `count` records. Segments
+     * that start at or after it are deleted and the segment it falls in is cut back. The cut
+     * is forced to disk unless the fsync policy is NEVER.
+     */
+    public synchronized void truncate(long count) throws IOException {
+        if (count >= recordCount) {
+            return;
+        }
+        if (count <= 0) {
+            reset();
+            return;
+        }
+        if (count < firstIndex()) {
+            throw new IOException("Records before " + firstIndex() + " of " + directory + " were already dropped");
+        }
+        while (segments.size() > 1 && activeSegment().baseIndex >= count) {
+            Segment dropped = segments.remove(segments.size() - 1);
+            dropped.channel.close();
+            Files.deleteIfExists(dropped.path);
+        }
+        Segment last = activeSegment();
+        int keep = (int) (count - last.baseIndex);
+        if (keep < last.count) {
+            last.size = last.positions[keep];
+            last.count = keep;
+            last.channel.truncate(last.size);
+        }
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            last.channel.force(false);
+        }
+        recordCount = count;
+        durableCount = Math.min(durableCount, count);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (intervalFlusher != null) {
+            intervalFlusher.shutdownNow();
+        }
+        for (Segment segment : segments) {
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                segment.channel.force(false);
+            }
+            segment.channel.close();
+        }
+    }
+
+    // --- Segment management ---
+
+    private Segment activeSegment() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private Segment segmentFor(long recordIndex) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (segments.get(mid).baseIndex <= recordIndex) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return segments.get(low);
+    }
+
+    private Segment createSegment(long baseIndex) throws IOException {
+        return openSegment(directory.resolve(String.format("%020d%s", baseIndex, SEGMENT_SUFFIX)));
+    }
+
+    private Segment openSegment(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long baseIndex = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(baseIndex, path, channel);
+    }
+
+    // Rebuilds the offset index of a segment, truncating a damaged tail if it is the last one
+    private static void recover(Segment segment, boolean lastSegment) throws IOException {
+        long fileSize = segment.channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES <= fileSize) {
+            header.clear();
+            readFully(segment.channel, header, position);
+            header.flip();
+            int length = header.getInt();
+            int crc = header.getInt();
+            if (length < 0 || position + HEADER_BYTES + length > fileSize) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(segment.channel, payload, position + HEADER_BYTES);
+            if (crc32(payload.array()) != crc) {
+                break;
+            }
+            segment.addPosition(position);
+            position += HEADER_BYTES + length;
+        }
+        if (position < fileSize) {
+            if (!lastSegment) {
+                throw new IOException("Corrupt record in " + segment.path + " at offset " + position);
+            }
+            log.warn("Truncating damaged tail of {} at offset {}", segment.path, position);
+            segment.channel.truncate(position);
+        }
+        segment.size = position;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file");
+            }
+        }
+    }
+
+    private static int crc32(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static final class Segment {
+        private final long baseIndex;
+        private final Path path;
+        private final FileChannel channel;
+        private long[] positions = new long[256];
+        private int count;
+        private long size;
+
+        private Segment(long baseIndex, Path path, FileChannel channel) {
+            this.baseIndex = baseIndex;
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private void addPosition(long position) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = position;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+// src/main/java/com/voting/blockchain/storage/SnapshotStore.java
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.BlockCodec;
+import com.voting.blockchain.model.VoteTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes and reads chain snapshots as compact binary files (blocks as BlockCodec records) in a local directory, named after
+ * the index of their last block. A snapshot is written to a temporary file and atomically
+ * renamed, and ends with a CRC32 of its contents, so a crash mid-write never leaves a
+ * snapshot that looks valid. Only the newest few snapshots are kept.
+ */
+public class SnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotStore.class);
+
+    private static final int MAGIC = 0x56534E50; // "VSNP"
+    private static final int FORMAT_VERSION = 2; // 2: blocks are BlockCodec records
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+    // Guards against allocating a huge array for a corrupt length field before the CRC check
+    private static final int MAX_RECORD_BYTES = 1 << 28;
+
+    private final Path directory;
+    private final int intervalBlocks;
+    private final int retain;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SnapshotStore(Path directory, int intervalBlocks, int retain) throws IOException {
+        this.directory = directory;
+        this.intervalBlocks = intervalBlocks;
+        this.retain = Math.max(1, retain);
+        Files.createDirectories(directory);
+    }
+
+    // An interval of 0 disables snapshots entirely, for both writing and loading
+    public boolean isEnabled() {
+        return intervalBlocks > 0;
+    }
+
+    // True if a snapshot should be taken once the chain reaches this block
+    public boolean isDue(int blockIndex, int lastSnapshotIndex) {
+        return isEnabled() && blockIndex - lastSnapshotIndex >= intervalBlocks;
+    }
+
+    /**
+     * Snapshots the given blocks (which must not change afterwards) and confirmed tally on the
+     * background writer thread. The voter list is collected there too. Failures are logged, not thrown.
+     */
+    public void writeAsync(List<Block> blocks, Map<String, Long> confirmedTally) {
+        writer.execute(() -> {
+            ChainSnapshot snapshot = new ChainSnapshot(blocks, confirmedTally, confirmedVoters(blocks));
+            try {
+                long start = System.currentTimeMillis();
+                write(snapshot);
+                log.info("Snapshot at block {} written in {} ms.",
+                        snapshot.getLastBlock().getIndex(), System.currentTimeMillis() - start);
+            } catch (IOException e) {
+                log.error("Error writing snapshot at block {}: {}", snapshot.getLastBlock().getIndex(), e.getMessage());
+            }
+        });
+    }
+
+    public void write(ChainSnapshot snapshot) throws IOException {
+        int lastIndex = snapshot.getLastBlock().getIndex();
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, lastIndex, SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16), crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(snapshot.getBlocks().size());
+            for (Block block : snapshot.getBlocks()) {
+                writeBlock(out, block);
+            }
+            out.writeInt(snapshot.getConfirmedTally().size());
+            for (Map.Entry<String, Long> entry : snapshot.getConfirmedTally().entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+            out.writeInt(snapshot.getVoters().size());
+            for (String voterId : snapshot.getVoters()) {
+                writeString(out, voterId);
+            }
+            out.writeLong(crc.getValue()); // Checksum of everything before it
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true); // Durable before it becomes visible under its final name
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        deleteOldSnapshots();
+    }
+
+    /**
+     * Returns the newest snapshot that reads back intact, or null if there is none.
+     * Damaged snapshots are skipped in favour of the next older one.
+     */
+    public ChainSnapshot loadLatest() {
+        if (!isEnabled()) {
+            return null;
+        }
+        List<Path> snapshots;
+        try {
+            snapshots = listSnapshots();
+        } catch (IOException e) {
+            log.error("Error listing snapshots in {}: {}", directory, e.getMessage());
+            return null;
+        }
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try {
+                return read(snapshots.get(i));
+            } catch (IOException e) {
+                log.warn("Skipping unreadable snapshot {}: {}", snapshots.get(i), e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private ChainSnapshot read(Path path) throws IOException {
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 1 << 16), crc))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a snapshot file or unsupported format");
+            }
+            // Counts are not trusted before the checksum: collections are not presized from them,
+            // so an inflated count runs into the end of the file instead of exhausting the heap
+            int blockCount = readCount(in, "block");
+            List<Block> blocks = new ArrayList<>();
+            for (int i = 0; i < blockCount; i++) {
+                blocks.add(readBlock(in));
+            }
+            int candidateCount = readCount(in, "candidate");
+            Map<String, Long> tally = new HashMap<>();
+            for (int i = 0; i < candidateCount; i++) {
+                tally.put(readString(in), in.readLong());
+            }
+            int voterCount = readCount(in, "voter");
+            Set<String> voters = new LinkedHashSet<>();
+            for (int i = 0; i < voterCount; i++) {
+                voters.add(readString(in));
+            }
+            long contentCrc = crc.getValue();
+            if (blocks.isEmpty() || in.readLong() != contentCrc) {
+                throw new IOException("Checksum mismatch");
+            }
+            return new ChainSnapshot(blocks, tally, voters);
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    private void deleteOldSnapshots() throws IOException {
+        List<Path> snapshots = listSnapshots();
+        for (int i = 0; i < snapshots.size() - retain; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+
+    // Voters with a vote in the given blocks, skipping the genesis system marker
+    public static Set<String> confirmedVoters(List<Block> blocks) {
+        Set<String> voters = new LinkedHashSet<>();
+        for (Block block : blocks) {
+            if (block.getIndex() > 0) {
+                for (VoteTransaction transaction : block.getData()) {
+                    voters.add(transaction.getVoterId());
+                }
+            }
+        }
+        return voters;
+    }
+
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    // --- Encoding ---
+
+    private static void writeBlock(DataOutputStream out, Block block) throws IOException {
+        byte[] encoded = BlockCodec.encodeBlock(block);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static int readCount(DataInputStream in, String what) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt " + what + " count " + count);
+        }
+        return count;
+    }
+
+    private static Block readBlock(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_RECORD_BYTES) {
+            throw new IOException("Corrupt block length " + length);
+        }
+        byte[] encoded = new byte[length];
+        in.readFully(encoded);
+        try {
+            return BlockCodec.decodeBlock(ByteBuffer.wrap(encoded));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt block record: " + e.getMessage(), e);
+        }
+    }
+
+    // Length-prefixed UTF-8; length -1 marks null
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > MAX_RECORD_BYTES) {
+            throw new IOException("Corrupt string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
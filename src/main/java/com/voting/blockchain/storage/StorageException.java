@@ -0,0 +1,16 @@
+// src/main/java/com/voting/blockchain/storage/StorageException.java
+package com.voting.blockchain.storage;
+
+// Thrown by BlockStore / MempoolStore implementations when the backing store cannot be read or written
+public class StorageException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public StorageException(String message) {
+        super(message);
+    }
+
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,9 @@
 // src/main/java/com/voting/blockchain/util/CryptoUtil.java
 package com.voting.blockchain.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.security.InvalidKeyException;
 import java.security.KeyFactory;
 import java.security.KeyPair;
@@ -17,6 +20,13 @@ import java.util.Base64; // For Base64 encoding/decoding
 
 public class CryptoUtil {
 
+    // Decoded public keys, keyed by their Base64 encoding. The same voter keys are decoded again
+    // for admission, block validation and audits, so parsing them once saves a KeyFactory call each time.
+    // Caffeine's W-TinyLFU policy keeps frequently used keys when the size limit is reached.
+    public static final long DEFAULT_PUBLIC_KEY_CACHE_SIZE = 100_000;
+    private static volatile long publicKeyCacheSize = DEFAULT_PUBLIC_KEY_CACHE_SIZE;
+    private static volatile Cache<String, PublicKey> publicKeyCache = newPublicKeyCache(DEFAULT_PUBLIC_KEY_CACHE_SIZE);
+
     // --- Key Pair Generation ---
     public static KeyPair generateKeyPair() throws NoSuchAlgorithmException {
         KeyPairGenerator keyGen = KeyPairGenerator.getInstance("RSA"); // Using RSA algorithm
@@ -36,20 +46,39 @@ public class CryptoUtil {
     // --- Verifying Signature ---
     // Verifies a signature against the original data and the public key
     public static boolean verify(PublicKey publicKey, String data, String signature) throws NoSuchAlgorithmException, InvalidKeyException, SignatureException {
-        Signature rsa = Signature.getInstance("SHA256withRSA");
+        return verify(newVerifier(), publicKey, data, signature);
+    }
+
+    // Same as above, but reuses a caller-owned Signature instance (e.g. one per worker thread)
+    public static boolean verify(Signature rsa, PublicKey publicKey, String data, String signature) throws InvalidKeyException, SignatureException {
         rsa.initVerify(publicKey);
         rsa.update(data.getBytes());
         return rsa.verify(Base64.getDecoder().decode(signature));
     }
 
+    public static Signature newVerifier() throws NoSuchAlgorithmException {
+        return Signature.getInstance("SHA256withRSA");
+    }
+
     // --- Key Conversion Utilities (for storing/transmitting keys as strings) ---
     // Encodes a public key to a Base64 string
     public static String encodePublicKey(PublicKey publicKey) {
         return Base64.getEncoder().encodeToString(publicKey.getEncoded());
     }
 
-    // Decodes a Base64 string back to a PublicKey object
+    // Decodes a Base64 string back to a PublicKey object, using the decoded-key cache
     public static PublicKey decodePublicKey(String publicKeyEncoded) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        Cache<String, PublicKey> cache = publicKeyCache;
+        PublicKey cached = cache.getIfPresent(publicKeyEncoded);
+        if (cached != null) {
+            return cached;
+        }
+        PublicKey publicKey = parsePublicKey(publicKeyEncoded);
+        cache.put(publicKeyEncoded, publicKey);
+        return publicKey;
+    }
+
+    private static PublicKey parsePublicKey(String publicKeyEncoded) throws NoSuchAlgorithmException, InvalidKeySpecException {
         byte[] publicBytes = Base64.getDecoder().decode(publicKeyEncoded);
         X509EncodedKeySpec keySpec = new X509EncodedKeySpec(publicBytes);
         KeyFactory keyFactory = KeyFactory.getInstance("RSA");
@@ -68,4 +97,31 @@ public class CryptoUtil {
         KeyFactory keyFactory = KeyFactory.getInstance("RSA");
         return keyFactory.generatePrivate(keySpec);
     }
-}
\ No newline at end of file
+
+    // --- Public key cache management ---
+
+    // Replaces the cache with an empty one bounded to maxSize entries
+    public static void setPublicKeyCacheSize(long maxSize) {
+        publicKeyCacheSize = maxSize;
+        publicKeyCache = newPublicKeyCache(maxSize);
+    }
+
+    public static long getPublicKeyCacheMaxSize() {
+        return publicKeyCacheSize;
+    }
+
+    public static long getPublicKeyCacheEntries() {
+        return publicKeyCache.estimatedSize();
+    }
+
+    public static CacheStats getPublicKeyCacheStats() {
+        return publicKeyCache.stats();
+    }
+
+    private static Cache<String, PublicKey> newPublicKeyCache(long maxSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+}
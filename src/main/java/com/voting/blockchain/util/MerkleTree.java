@@ -0,0 +1,136 @@
+// src/main/java/com/voting/blockchain/util/MerkleTree.java
+package com.voting.blockchain.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary SHA-256 Merkle tree over a list of leaf hashes.
+ *
+ * Interior nodes are SHA-256(0x01 || left || right). When a level has an odd number of nodes the
+ * last one is carried up unchanged (rather than paired with itself), so two different leaf lists
+ * can never produce the same root.
+ */
+public final class MerkleTree {
+
+    private static final byte NODE_PREFIX = 0x01;
+
+    private MerkleTree() {
+    }
+
+    // One sibling hash on the path from a leaf to the root
+    public static class ProofStep {
+        private final String hash;
+        private final boolean left; // true if the sibling sits to the left of the running hash
+
+        public ProofStep(String hash, boolean left) {
+            this.hash = hash;
+            this.left = left;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public String getPosition() {
+            return left ? "left" : "right";
+        }
+
+        // Not a bean getter, so it stays out of the JSON proof
+        public boolean siblingOnLeft() {
+            return left;
+        }
+    }
+
+    public static byte[] root(List<byte[]> leaves) {
+        if (leaves.isEmpty()) {
+            return sha256().digest();
+        }
+        List<byte[]> level = leaves;
+        while (level.size() > 1) {
+            level = nextLevel(level);
+        }
+        return level.get(0);
+    }
+
+    // Sibling hashes needed to recompute the root from the leaf at leafIndex, bottom level first
+    public static List<ProofStep> proof(List<byte[]> leaves, int leafIndex) {
+        if (leafIndex < 0 || leafIndex >= leaves.size()) {
+            throw new IndexOutOfBoundsException("Leaf " + leafIndex + " out of range for " + leaves.size() + " leaves");
+        }
+        List<ProofStep> steps = new ArrayList<>();
+        List<byte[]> level = leaves;
+        int position = leafIndex;
+        while (level.size() > 1) {
+            int sibling = position ^ 1;
+            if (sibling < level.size()) {
+                steps.add(new ProofStep(toHex(level.get(sibling)), sibling < position));
+            }
+            // else: odd node carried up unchanged, nothing to record at this level
+            level = nextLevel(level);
+            position /= 2;
+        }
+        return steps;
+    }
+
+    public static boolean verify(byte[] leaf, List<ProofStep> proof, byte[] expectedRoot) {
+        byte[] running = leaf;
+        for (ProofStep step : proof) {
+            byte[] sibling = fromHex(step.getHash());
+            running = step.siblingOnLeft() ? hashNode(sibling, running) : hashNode(running, sibling);
+        }
+        return MessageDigest.isEqual(running, expectedRoot);
+    }
+
+    private static List<byte[]> nextLevel(List<byte[]> level) {
+        List<byte[]> parents = new ArrayList<>((level.size() + 1) / 2);
+        for (int i = 0; i < level.size(); i += 2) {
+            parents.add(i + 1 < level.size() ? hashNode(level.get(i), level.get(i + 1)) : level.get(i));
+        }
+        return parents;
+    }
+
+    private static byte[] hashNode(byte[] left, byte[] right) {
+        MessageDigest digest = sha256();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not found", e);
+        }
+    }
+
+    // --- Hex helpers ---
+
+    public static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0x0f, 16)).append(Character.forDigit(b & 0x0f, 16));
+        }
+        return hex.toString();
+    }
+
+    public static byte[] fromHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hex string must have an even length");
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(i * 2), 16);
+            int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid hex string");
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,52 @@
+// src/main/java/com/voting/blockchain/util/VirtualThreads.java
+package com.voting.blockchain.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads without requiring Java 21 to build: the project targets Java 17, so the
+ * Java 21 API (Thread.ofVirtual, Executors.newThreadPerTaskExecutor) is looked up reflectively.
+ * On older runtimes, or Java 19/20 without --enable-preview, isAvailable() is false.
+ */
+public final class VirtualThreads {
+
+    private static final boolean AVAILABLE = probe();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * An executor that starts a new virtual thread, named prefix0, prefix1, ..., for every task.
+     * @throws UnsupportedOperationException if the runtime has no virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!AVAILABLE) {
+            throw new UnsupportedOperationException("Virtual threads need Java 21 or later (running " + Runtime.version() + ")");
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Could not create a virtual thread executor", e);
+        }
+    }
+
+    private static boolean probe() {
+        try {
+            Thread.class.getMethod("ofVirtual").invoke(null);
+            return true;
+        } catch (ReflectiveOperationException e) {
+            return false; // No such method before Java 19; a preview API on 19/20 that throws without --enable-preview
+        }
+    }
+}
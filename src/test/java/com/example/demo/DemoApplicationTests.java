@@ -2,8 +2,11 @@ package com.example.demo;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+// The loadtest profile keeps everything in memory and needs no Firebase service account
 @SpringBootTest
+@ActiveProfiles("loadtest")
 class DemoApplicationTests {
 
 	@Test
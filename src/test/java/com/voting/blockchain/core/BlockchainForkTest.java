@@ -0,0 +1,184 @@
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.config.ExecutionProperties;
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import com.voting.blockchain.storage.InMemoryBlockStore;
+import com.voting.blockchain.storage.InMemoryMempoolStore;
+import com.voting.blockchain.storage.SnapshotStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockchainForkTest {
+
+    private static final int BITS = 8;
+
+    @TempDir
+    Path directory;
+
+    private final InMemoryBlockStore blockStore = new InMemoryBlockStore();
+    private final InMemoryMempoolStore mempoolStore = new InMemoryMempoolStore();
+    private final Block genesis = block(0, "0", "genesis", vote("system", "genesis_block_creation"));
+    private final List<List<Block>> removedByListener = new ArrayList<>();
+    private SignatureVerifier signatureVerifier;
+    private ParallelMiner miner;
+    private ChainValidator validator;
+    private StorageExecutor storageExecutor;
+    private SnapshotStore snapshotStore;
+    private Blockchain blockchain;
+
+    private static Block block(int index, String previousHash, String hash, VoteTransaction... votes) {
+        return Block.restore(index, index, previousHash, List.of(votes), hash, 0, Block.CURRENT_VERSION, "root", BITS);
+    }
+
+    private static VoteTransaction vote(String voterId, String candidateId) {
+        return new VoteTransaction(voterId, candidateId, "key-" + voterId, "sig-" + voterId);
+    }
+
+    private static List<String> hashes(List<Block> blocks) {
+        return blocks.stream().map(Block::getHash).toList();
+    }
+
+    private static Set<String> voters(List<VoteTransaction> transactions) {
+        return transactions.stream().map(VoteTransaction::getVoterId).collect(Collectors.toSet());
+    }
+
+    // Our chain: alice and bob confirmed in blocks 1 and 2, carol and dave pending
+    @BeforeEach
+    void setUp() throws Exception {
+        blockStore.append(genesis);
+        blockStore.append(block(1, "genesis", "ours-1", vote("alice", "c1")));
+        blockStore.append(block(2, "ours-1", "ours-2", vote("bob", "c1")));
+        mempoolStore.save(vote("carol", "c2"));
+        mempoolStore.save(vote("dave", "c1"));
+
+        ExecutionProperties execution = new ExecutionProperties();
+        execution.setMode(ExecutionProperties.Mode.PLATFORM);
+        DifficultyRetargeter retargeter = new DifficultyRetargeter(BITS, 2000, 20, 2, BITS, 48);
+        signatureVerifier = new SignatureVerifier(1, 8, 100);
+        miner = new ParallelMiner(1);
+        validator = new ChainValidator(signatureVerifier, retargeter, 1, false);
+        storageExecutor = new StorageExecutor(execution, 4, 1000);
+        snapshotStore = new SnapshotStore(directory, 0, 2);
+        blockchain = new Blockchain(blockStore, mempoolStore, snapshotStore, new Mempool(100, 10, 1), miner, validator,
+                retargeter, new TallyIndex(), new VoterIndex(), new TransactionIndex(), signatureVerifier,
+                storageExecutor, new SimpleMeterRegistry(), 60000);
+        blockchain.addChainListener((added, removed, source) -> removedByListener.add(removed));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        validator.shutdown();
+        miner.shutdown();
+        signatureVerifier.shutdown();
+        storageExecutor.shutdown();
+        snapshotStore.shutdown();
+    }
+
+    @Test
+    void heavierForkReplacesOurBlocksAndUnwindsTheirVotes() throws Exception {
+        List<Block> candidate = List.of(genesis,
+                block(1, "genesis", "fork-1", vote("alice", "c1"), vote("carol", "c2")),
+                block(2, "fork-1", "fork-2", vote("erin", "c2")),
+                block(3, "fork-2", "fork-3", vote("frank", "c2")));
+
+        assertTrue(blockchain.adoptFork(candidate, 0, "peer"));
+
+        assertEquals(hashes(candidate), hashes(blockchain.getChain()));
+        assertEquals(hashes(candidate), hashes(blockStore.loadFrom(0)));
+        assertEquals(ChainWork.of(candidate, 0), blockchain.getTotalWork());
+        assertEquals(List.of(List.of("ours-1", "ours-2")), removedByListener.stream().map(BlockchainForkTest::hashes).toList());
+
+        // Bob's block was dropped, so his vote is pending again; carol's vote is confirmed by the fork
+        Mempool mempool = blockchain.getMempool();
+        assertEquals(Set.of("bob", "dave"), voters(mempool.snapshot()));
+        assertEquals(2, mempool.size());
+        assertEquals(2, mempool.getOccupied());
+        assertEquals(Set.of("bob", "dave"), voters(mempoolStore.loadAll()));
+
+        TallyIndex tally = blockchain.getTally();
+        assertEquals(Map.of("c1", 1L, "c2", 3L), tally.getConfirmed());
+        assertEquals(2L, tally.getPending().get("c1"));
+        assertEquals(2, tally.getTotalPending());
+        assertEquals(3, tally.getCountedUpToBlock());
+
+        assertFalse(blockchain.isVoterConfirmed("bob", 3));
+        assertTrue(blockchain.isVoterConfirmed("carol", 1));
+        assertTrue(blockchain.isVoterConfirmed("frank", 3));
+        assertNull(blockchain.getBlockByHash("ours-2"));
+        assertEquals(3, blockchain.getBlockByHash("fork-3").getIndex());
+
+        VoterIndex voterIndex = blockchain.getVoterIndex();
+        for (String voter : List.of("alice", "bob", "carol", "dave", "erin", "frank")) {
+            assertTrue(voterIndex.hasVoted(voter), voter);
+        }
+        assertEquals(6, voterIndex.getVoterCount());
+    }
+
+    @Test
+    void forkWithEqualWorkKeepsOurChain() {
+        List<Block> candidate = List.of(genesis,
+                block(1, "genesis", "fork-1", vote("erin", "c2")),
+                block(2, "fork-1", "fork-2", vote("frank", "c2")));
+
+        assertFalse(blockchain.adoptFork(candidate, 0, "peer"));
+
+        assertEquals(List.of("genesis", "ours-1", "ours-2"), hashes(blockchain.getChain()));
+        assertEquals(Set.of("carol", "dave"), voters(blockchain.getPendingTransactions()));
+        assertEquals(Map.of("c1", 2L), blockchain.getTally().getConfirmed());
+        assertFalse(blockchain.getVoterIndex().hasVoted("erin"));
+        assertTrue(removedByListener.isEmpty());
+    }
+
+    @Test
+    void forkIsRejectedWhenAVoterVotesTwice() {
+        // Alice is confirmed in block 1, below the fork point, and votes again after it
+        List<Block> revote = List.of(genesis, blockchain.getBlock(1),
+                block(2, "ours-1", "fork-2", vote("alice", "c2")),
+                block(3, "fork-2", "fork-3", vote("erin", "c2")));
+        assertFalse(blockchain.adoptFork(revote, 1, "peer"));
+
+        // Erin votes in two of the fork's own blocks
+        List<Block> twice = List.of(genesis,
+                block(1, "genesis", "fork-1", vote("erin", "c1")),
+                block(2, "fork-1", "fork-2", vote("erin", "c2")),
+                block(3, "fork-2", "fork-3", vote("frank", "c2")));
+        assertFalse(blockchain.adoptFork(twice, 0, "peer"));
+
+        assertEquals(List.of("genesis", "ours-1", "ours-2"), hashes(blockchain.getChain()));
+        assertEquals(Map.of("c1", 2L), blockchain.getTally().getConfirmed());
+        assertTrue(blockchain.isVoterConfirmed("alice", 1));
+        assertTrue(removedByListener.isEmpty());
+    }
+
+    @Test
+    void peerBlockIsAppendedOnlyOnceValid() {
+        int bits = blockchain.getNextDifficultyBits();
+        Block revote = new Block(3, "ours-2", List.of(vote("alice", "c2")), bits);
+        miner.mine(revote);
+        assertFalse(blockchain.tryAppendPeerBlock(revote, "peer"));
+        assertEquals(3, blockchain.getChainLength());
+
+        Block next = new Block(3, "ours-2", List.of(vote("erin", "c2")), bits);
+        miner.mine(next);
+        assertTrue(blockchain.tryAppendPeerBlock(next, "peer"));
+        assertEquals(next.getHash(), blockchain.getLatestBlock().getHash());
+        assertTrue(blockchain.isVoterConfirmed("erin", 3));
+        assertEquals(List.of(List.of()), removedByListener);
+    }
+}
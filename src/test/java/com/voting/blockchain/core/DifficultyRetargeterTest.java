@@ -0,0 +1,73 @@
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DifficultyRetargeterTest {
+
+    // initial 16 bits, 1 s target, window of 10, at most 2 bits per retarget, bounds [8, 24]
+    private final DifficultyRetargeter retargeter = new DifficultyRetargeter(16, 1000, 10, 2, 8, 24);
+
+    // Appends blocks spaced the given number of milliseconds apart, each with the difficulty the rule requires
+    private void extend(List<Block> chain, int count, long spacingMillis) {
+        for (int i = 0; i < count; i++) {
+            int height = chain.size();
+            long timestamp = height == 0 ? 0 : chain.get(height - 1).getTimestamp() + spacingMillis;
+            int bits = retargeter.requiredBits(chain, height);
+            chain.add(Block.restore(height, timestamp, "prev", List.of(), "hash", 0, Block.CURRENT_VERSION, "root", bits));
+        }
+    }
+
+    @Test
+    void keepsDifficultyBetweenRetargetsAndWhenOnTarget() {
+        List<Block> chain = new ArrayList<>();
+        extend(chain, 25, 1000);
+        for (Block block : chain) {
+            assertEquals(16, block.getDifficultyBits());
+        }
+        assertEquals(16, retargeter.nextBits(chain));
+    }
+
+    @Test
+    void raisesDifficultyOneBitPerDoublingWhenBlocksComeTooFast() {
+        List<Block> chain = new ArrayList<>();
+        extend(chain, 10, 400); // 2.5x too fast
+        assertEquals(17, retargeter.nextBits(chain));
+
+        List<Block> muchFaster = new ArrayList<>();
+        extend(muchFaster, 10, 10); // 100x too fast, capped at two bits
+        assertEquals(18, retargeter.nextBits(muchFaster));
+    }
+
+    @Test
+    void lowersDifficultyWhenBlocksComeTooSlowly() {
+        List<Block> chain = new ArrayList<>();
+        extend(chain, 10, 2500);
+        assertEquals(15, retargeter.nextBits(chain));
+
+        extend(chain, 10, 60_000);
+        assertEquals(13, retargeter.nextBits(chain));
+    }
+
+    @Test
+    void staysWithinBounds() {
+        List<Block> chain = new ArrayList<>();
+        extend(chain, 100, 1);
+        assertEquals(24, retargeter.nextBits(chain));
+
+        extend(chain, 100, 1_000_000);
+        assertEquals(8, retargeter.nextBits(chain));
+    }
+
+    @Test
+    void treatsBlocksBeforePerBlockDifficultyAsLegacyBits() {
+        List<Block> chain = new ArrayList<>();
+        chain.add(Block.restore(0, 0, "0", List.of(), "hash", 0, Block.BINARY_VERSION, "root", 0));
+        assertEquals(Block.LEGACY_DIFFICULTY_BITS, retargeter.nextBits(chain));
+    }
+}
@@ -0,0 +1,97 @@
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImmutableChainTest {
+
+    private static Block block(int index) {
+        return Block.restore(index, index, "prev", List.of(), "hash-" + index, 0, Block.CURRENT_VERSION, "root", 16);
+    }
+
+    @Test
+    void appendLeavesEarlierViewsUnchanged() {
+        ImmutableChain empty = ImmutableChain.empty();
+        ImmutableChain one = empty.append(block(0));
+        ImmutableChain two = one.append(block(1));
+
+        assertEquals(0, empty.size());
+        assertNull(empty.getLast());
+        assertEquals(1, one.size());
+        assertEquals("hash-0", one.getLast().getHash());
+        assertEquals(2, two.size());
+        assertEquals("hash-1", two.getLast().getHash());
+        assertThrows(IndexOutOfBoundsException.class, () -> one.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> two.add(block(2)));
+    }
+
+    @Test
+    void holdsChainsSpanningManyChunks() {
+        List<Block> expected = new ArrayList<>();
+        ImmutableChain chain = ImmutableChain.empty();
+        for (int i = 0; i < 5000; i++) {
+            Block block = block(i);
+            expected.add(block);
+            chain = chain.append(block);
+        }
+        assertEquals(expected, chain);
+        assertEquals(expected, ImmutableChain.of(expected));
+    }
+
+    @Test
+    void appendingToAnOlderViewForksWithoutTouchingNewerOnes() {
+        ImmutableChain base = ImmutableChain.of(List.of(block(0), block(1)));
+        ImmutableChain main = base.append(block(2));
+        Block other = block(2);
+        ImmutableChain fork = base.append(other);
+
+        assertEquals(3, main.size());
+        assertEquals(3, fork.size());
+        assertSame(other, fork.get(2));
+        assertEquals("hash-2", main.get(2).getHash());
+        assertSame(main.get(0), fork.get(0));
+
+        // The fork has storage of its own, so extending it leaves main alone
+        ImmutableChain longerFork = fork.append(block(3));
+        assertEquals(4, longerFork.size());
+        assertEquals(3, main.size());
+    }
+
+    @Test
+    void prefixSharesBlocksAndForksOnAppend() {
+        ImmutableChain main = ImmutableChain.of(List.of(block(0), block(1), block(2)));
+        ImmutableChain prefix = main.prefix(1);
+
+        assertEquals(1, prefix.size());
+        assertSame(main, main.prefix(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> main.prefix(4));
+
+        ImmutableChain fork = prefix.append(block(5)).append(block(6));
+        assertEquals(List.of("hash-0", "hash-5", "hash-6"), fork.stream().map(Block::getHash).toList());
+        assertEquals("hash-1", main.get(1).getHash());
+    }
+
+    @Test
+    void followedByShowsLaterBlocksWithoutExtendingTheChain() {
+        ImmutableChain chain = ImmutableChain.of(List.of(block(0), block(1)));
+        List<Block> pending = new ArrayList<>();
+        List<Block> candidate = chain.followedBy(pending);
+
+        assertEquals(2, candidate.size());
+        pending.add(block(2));
+        assertEquals(List.of("hash-0", "hash-1", "hash-2"), candidate.stream().map(Block::getHash).toList());
+        assertEquals(2, chain.size());
+        assertThrows(UnsupportedOperationException.class, () -> candidate.add(block(3)));
+
+        ImmutableChain extended = chain.append(pending.get(0));
+        assertEquals(candidate, extended);
+    }
+}
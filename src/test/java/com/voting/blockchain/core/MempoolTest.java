@@ -0,0 +1,109 @@
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.VoteTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MempoolTest {
+
+    private static VoteTransaction vote(int i) {
+        return new VoteTransaction("voter" + i, "candidate", "key", "sig");
+    }
+
+    @Test
+    void neverExceedsCapacityUnderConcurrentAdmission() throws Exception {
+        Mempool mempool = new Mempool(1000, 100, 3);
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 5000; i++) {
+            int id = i;
+            pool.execute(() -> {
+                try {
+                    mempool.reserve();
+                    mempool.add(vote(id));
+                    admitted.incrementAndGet();
+                } catch (MempoolFullException e) {
+                    rejected.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(1000, admitted.get());
+        assertEquals(4000, rejected.get());
+        assertEquals(1000, mempool.size());
+        MempoolFullException full = assertThrows(MempoolFullException.class, mempool::reserve);
+        assertEquals(3, full.getRetryAfterSeconds());
+    }
+
+    @Test
+    void concurrentCutsTakeEachVoteExactlyOnce() throws Exception {
+        Mempool mempool = new Mempool(100_000, 250, 3);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 10_000;
+            producers.add(pool.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    mempool.reserve();
+                    mempool.add(vote(offset + i));
+                }
+            }));
+        }
+        Set<String> mined = Collections.synchronizedSet(new HashSet<>());
+        AtomicInteger minedCount = new AtomicInteger();
+        List<Future<?>> cutters = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            cutters.add(pool.submit(() -> {
+                while (minedCount.get() < 40_000) {
+                    List<VoteTransaction> cut = mempool.cut();
+                    assertTrue(cut.size() <= 250);
+                    cut.forEach(vote -> mined.add(vote.getVoterId()));
+                    minedCount.addAndGet(cut.size());
+                }
+            }));
+        }
+        for (Future<?> future : producers) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        for (Future<?> future : cutters) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(40_000, minedCount.get());
+        assertEquals(40_000, mined.size());
+        assertTrue(mempool.isEmpty());
+        assertEquals(0, mempool.getOccupied());
+    }
+
+    @Test
+    void putBackRestoresOrderAtTheHead() {
+        Mempool mempool = new Mempool(10, 2, 3);
+        for (int i = 0; i < 3; i++) {
+            mempool.reserve();
+            mempool.add(vote(i));
+        }
+        List<VoteTransaction> cut = mempool.cut();
+        mempool.putBack(cut);
+        assertEquals(List.of("voter0", "voter1", "voter2"),
+                mempool.snapshot().stream().map(VoteTransaction::getVoterId).toList());
+        assertEquals(3, mempool.getOccupied());
+    }
+}
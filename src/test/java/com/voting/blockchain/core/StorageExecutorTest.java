@@ -0,0 +1,90 @@
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.config.ExecutionProperties;
+import com.voting.blockchain.storage.StorageException;
+import com.voting.blockchain.util.VirtualThreads;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageExecutorTest {
+
+    private static ExecutionProperties execution(ExecutionProperties.Mode mode) {
+        ExecutionProperties execution = new ExecutionProperties();
+        execution.setMode(mode);
+        return execution;
+    }
+
+    @Test
+    void refusesAsyncCallsWhileEveryPermitIsTaken() throws Exception {
+        StorageExecutor executor = new StorageExecutor(execution(ExecutionProperties.Mode.PLATFORM), 1, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                executor.call(() -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                });
+            } catch (StorageException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getInFlight());
+
+        CompletableFuture<String> refused = executor.callAsync(() -> CompletableFuture.completedFuture("tx"));
+        CompletionException error = assertThrows(CompletionException.class, refused::join);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        assertEquals(1, executor.getRejectedCount());
+
+        release.countDown();
+        holder.join();
+        assertEquals(0, executor.getInFlight());
+        assertEquals("tx", executor.callAsync(() -> CompletableFuture.completedFuture("tx")).join());
+    }
+
+    @Test
+    void permitIsHeldUntilTheAsyncCallCompletes() {
+        StorageExecutor executor = new StorageExecutor(execution(ExecutionProperties.Mode.PLATFORM), 1, 50);
+        CompletableFuture<String> inFlight = new CompletableFuture<>();
+        CompletableFuture<String> first = executor.callAsync(() -> inFlight);
+        assertEquals(1, executor.getInFlight());
+
+        CompletableFuture<String> refused = executor.callAsync(() -> CompletableFuture.completedFuture("tx"));
+        CompletionException error = assertThrows(CompletionException.class, refused::join);
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+        inFlight.complete("done");
+        assertEquals("done", first.join());
+        assertEquals(0, executor.getInFlight());
+        assertEquals("tx", executor.callAsync(() -> CompletableFuture.completedFuture("tx")).join());
+    }
+
+    @Test
+    void virtualModeRunsCallsOnVirtualThreadsOrFallsBack() {
+        StorageExecutor executor = new StorageExecutor(execution(ExecutionProperties.Mode.VIRTUAL), 4, 1000);
+        try {
+            assertEquals(VirtualThreads.isAvailable(), executor.isVirtual());
+            String threadName = executor.callAsync(() -> CompletableFuture.completedFuture(Thread.currentThread().getName())).join();
+            assertEquals(VirtualThreads.isAvailable(), threadName.startsWith("storage-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
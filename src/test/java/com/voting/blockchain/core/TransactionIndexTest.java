@@ -0,0 +1,53 @@
+package com.voting.blockchain.core;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TransactionIndexTest {
+
+    private static Block block(int index, VoteTransaction... votes) {
+        return Block.restore(index, index, "prev", List.of(votes), "hash-" + index, 0, Block.CURRENT_VERSION, "root", 16);
+    }
+
+    private static VoteTransaction vote(String voterId, String candidateId) {
+        return new VoteTransaction(voterId, candidateId, "key-" + voterId, "sig-" + voterId);
+    }
+
+    @Test
+    void findsVotesByTxIdAndVoter() {
+        VoteTransaction alice = vote("alice", "c1");
+        VoteTransaction bob = vote("bob", "c2");
+        TransactionIndex index = new TransactionIndex();
+        index.recordConfirmed(block(0, vote("system", "genesis_block_creation")));
+        index.recordConfirmed(block(1, alice, bob));
+
+        assertEquals(1, index.findByTxId(bob.calculateTxId()).getBlockIndex());
+        assertEquals(1, index.findByTxId(bob.calculateTxId()).getPosition());
+        assertEquals(0, index.findByVoter("alice").getPosition());
+        assertNull(index.findByVoter("system"));
+        assertEquals(2, index.getTransactionCount());
+    }
+
+    @Test
+    void removingAReplacedBlockKeepsEarlierVotes() {
+        VoteTransaction first = vote("alice", "c1");
+        VoteTransaction duplicate = vote("alice", "c2");
+        Block replaced = block(2, duplicate, vote("bob", "c2"));
+        TransactionIndex index = new TransactionIndex();
+        index.rebuild(List.of(block(0), block(1, first), replaced));
+
+        assertEquals(1, index.findByVoter("alice").getBlockIndex()); // Earliest vote wins
+        index.removeConfirmed(replaced);
+
+        assertEquals(1, index.findByVoter("alice").getBlockIndex());
+        assertNull(index.findByVoter("bob"));
+        assertNull(index.findByTxId(duplicate.calculateTxId()));
+        assertEquals(1, index.getTransactionCount());
+    }
+}
@@ -0,0 +1,260 @@
+package com.voting.blockchain.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voting.blockchain.util.CryptoUtil;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+/**
+ * End-to-end load generator: synthetic voters with their own RSA key pairs cast signed votes
+ * against a running node, while blocks are requested at a fixed interval.
+ *
+ * Start the node without Firebase or disk storage:
+ * <pre>
+ *   java -jar target/demo-0.0.1-SNAPSHOT.jar --spring.profiles.active=loadtest
+ * </pre>
+ * then run the generator from the test classpath:
+ * <pre>
+ *   mvn test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.voting.blockchain.loadtest.LoadGenerator \
+ *       -Dexec.args="rate=500 duration=30 voters=20000 out=target/loadtest.json"
+ * </pre>
+ *
+ * Arguments (key=value, all optional): baseUrl (http://localhost:8080), voters (1000),
+ * rate in votes per second (200), duration in seconds (10), concurrency, the most requests in
+ * flight (256), mineIntervalMs, 0 to leave block production to the node (1000),
+ * candidates (5), out, a file for the JSON report.
+ *
+ * To compare execution modes at high concurrency, run the same load against a node started
+ * with --blockchain.execution.mode=platform and one with =virtual (Java 21), e.g. with
+ * concurrency=10000 and a rate above what the node sustains, and compare the latency tails.
+ *
+ * Keys and signed request bodies are prepared before the run so only HTTP and the node are
+ * measured. Votes are sent open loop: each has an intended send time from the target rate, and
+ * its latency is measured from that time rather than from when it was actually sent, so a slow
+ * node shows up as latency instead of silently lowering the offered rate. Each voter votes
+ * once; runs with more votes than voters reuse them and the extra votes come back as 409.
+ */
+public class LoadGenerator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // --- Settings ---
+    private final String baseUrl;
+    private final int voters;
+    private final int rate;
+    private final int durationSeconds;
+    private final int concurrency;
+    private final long mineIntervalMillis;
+    private final int candidates;
+    private final String out;
+
+    private final HttpClient client;
+
+    // Latencies in microseconds, by HTTP status (-1 for transport errors)
+    private final Map<Integer, LatencyRecorder> voteLatencies = new ConcurrentHashMap<>();
+    private final LatencyRecorder mineLatencies = new LatencyRecorder();
+
+    public LoadGenerator(Map<String, String> args) {
+        this.baseUrl = args.getOrDefault("baseUrl", "http://localhost:8080") + "/api/v1";
+        this.voters = Integer.parseInt(args.getOrDefault("voters", "1000"));
+        this.rate = Integer.parseInt(args.getOrDefault("rate", "200"));
+        this.durationSeconds = Integer.parseInt(args.getOrDefault("duration", "10"));
+        this.concurrency = Integer.parseInt(args.getOrDefault("concurrency", "256"));
+        this.mineIntervalMillis = Long.parseLong(args.getOrDefault("mineIntervalMs", "1000"));
+        this.candidates = Integer.parseInt(args.getOrDefault("candidates", "5"));
+        this.out = args.get("out");
+        if (voters < 1 || rate < 1 || durationSeconds < 1 || concurrency < 1 || candidates < 1) {
+            throw new IllegalArgumentException("voters, rate, duration, concurrency and candidates must be positive");
+        }
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Map<String, String> args = new HashMap<>();
+        for (String arg : argv) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            args.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        new LoadGenerator(args).run();
+    }
+
+    public void run() throws Exception {
+        System.out.printf("Preparing %d signed voters...%n", voters);
+        long prepareStart = System.nanoTime();
+        List<HttpRequest> votes = prepareVotes();
+        System.out.printf("Prepared in %.1f s%n", (System.nanoTime() - prepareStart) / 1e9);
+
+        int total = rate * durationSeconds;
+        long intervalNanos = 1_000_000_000L / rate;
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread miner = startMiner(running);
+
+        System.out.printf("Sending %d votes at %d/s to %s%n", total, rate, baseUrl);
+        CompletableFuture<?>[] pending = new CompletableFuture<?>[total];
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquireUninterruptibly(); // Time spent waiting here still counts towards the vote's latency
+            pending[i] = client.sendAsync(votes.get(i % votes.size()), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        inFlight.release();
+                        int status = error == null ? response.statusCode() : -1;
+                        voteLatencies.computeIfAbsent(status, s -> new LatencyRecorder())
+                                .record((System.nanoTime() - intended) / 1000);
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(pending).join();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        running.set(false);
+        if (miner != null) {
+            miner.join();
+        }
+
+        Map<String, Object> report = report(total, elapsedSeconds);
+        System.out.println(MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        if (out != null) {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(Path.of(out).toFile(), report);
+            System.out.println("Report written to " + out);
+        }
+    }
+
+    // One pre-built request per voter: a fresh key pair, a stub token for a UID unique to this run, a signed body
+    private List<HttpRequest> prepareVotes() {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        return IntStream.range(0, voters).parallel().mapToObj(i -> {
+            try {
+                String voterId = "lt-" + runId + "-" + i;
+                String candidateId = "candidate-" + (i % candidates);
+                KeyPair keyPair = CryptoUtil.generateKeyPair();
+                String publicKey = CryptoUtil.encodePublicKey(keyPair.getPublic());
+                String signature = CryptoUtil.sign(keyPair.getPrivate(), voterId + candidateId + publicKey);
+                Map<String, String> body = Map.of(
+                        "candidateId", candidateId,
+                        "senderPublicKey", publicKey,
+                        "signature", signature);
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/transactions/new"))
+                        .header("Authorization", "Bearer loadtest:" + voterId)
+                        .header("Content-Type", "application/json")
+                        .timeout(Duration.ofSeconds(30))
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)))
+                        .build();
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not prepare voter " + i, e);
+            }
+        }).toList();
+    }
+
+    // Requests a block and waits for it at a fixed interval, recording how long each takes
+    private Thread startMiner(AtomicBoolean running) {
+        if (mineIntervalMillis <= 0) {
+            return null;
+        }
+        HttpRequest mine = HttpRequest.newBuilder(URI.create(baseUrl + "/mine?wait=true"))
+                .timeout(Duration.ofMinutes(2))
+                .GET()
+                .build();
+        Thread thread = new Thread(() -> {
+            while (running.get()) {
+                long start = System.nanoTime();
+                try {
+                    client.send(mine, HttpResponse.BodyHandlers.discarding());
+                    mineLatencies.record((System.nanoTime() - start) / 1000);
+                } catch (Exception e) {
+                    System.err.println("Mine request failed: " + e.getMessage());
+                }
+                long rest = mineIntervalMillis * 1_000_000 - (System.nanoTime() - start);
+                if (rest > 0) {
+                    LockSupport.parkNanos(rest);
+                }
+            }
+        }, "loadtest-miner");
+        thread.start();
+        return thread;
+    }
+
+    private Map<String, Object> report(int total, double elapsedSeconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("targetRate", rate);
+        report.put("votes", total);
+        report.put("elapsedSeconds", elapsedSeconds);
+        long accepted = voteLatencies.getOrDefault(201, new LatencyRecorder()).count();
+        report.put("acceptedPerSecond", accepted / elapsedSeconds);
+        report.put("completedPerSecond", total / elapsedSeconds);
+
+        Map<String, Object> byStatus = new TreeMap<>();
+        voteLatencies.forEach((status, recorder) -> byStatus.put(status == -1 ? "error" : status.toString(), recorder.summary()));
+        report.put("voteLatencyByStatus", byStatus);
+        report.put("mineLatency", mineLatencies.summary());
+        return report;
+    }
+
+    // Keeps every sample so percentiles are exact; a run of a few million votes needs a few tens of MB
+    static final class LatencyRecorder {
+
+        private long[] samples = new long[1024];
+        private int count;
+
+        synchronized void record(long micros) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = micros;
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            if (count == 0) {
+                return summary;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            summary.put("p50Ms", percentile(sorted, 0.50) / 1000.0);
+            summary.put("p99Ms", percentile(sorted, 0.99) / 1000.0);
+            summary.put("p999Ms", percentile(sorted, 0.999) / 1000.0);
+            summary.put("maxMs", sorted[count - 1] / 1000.0);
+            return summary;
+        }
+
+        // Nearest-rank percentile
+        private static long percentile(long[] sorted, double fraction) {
+            int rank = (int) Math.ceil(fraction * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.voting.blockchain.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.security.KeyPairGenerator;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockCodecTest {
+
+    private static Block sampleBlock() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        String publicKey = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPublic().getEncoded());
+        Block block = new Block(3, "00ab34cd", List.of(
+                new VoteTransaction("voter-1", "candidate-ä", publicKey, Base64.getEncoder().encodeToString(new byte[256])),
+                new VoteTransaction("voter-2", "candidate-b", "not base64!", null)));
+        block.setHash(block.calculateHash());
+        return block;
+    }
+
+    @Test
+    void blockRoundTripsExactly() throws Exception {
+        Block block = sampleBlock();
+        byte[] encoded = BlockCodec.encodeBlock(block);
+
+        // Decode from a direct buffer at a non-zero offset, as when reading from a mapped file
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length + 7);
+        direct.position(7);
+        direct.put(encoded).position(7);
+        Block decoded = BlockCodec.decodeBlock(direct);
+
+        assertEquals(new ObjectMapper().writeValueAsString(block), new ObjectMapper().writeValueAsString(decoded));
+        assertEquals(block.getHash(), decoded.calculateHash());
+        assertNull(decoded.getData().get(1).getSignature());
+        assertEquals(direct.limit(), direct.position());
+    }
+
+    @Test
+    void binaryRecordIsSmallerThanJson() throws Exception {
+        Block block = sampleBlock();
+        int jsonLength = new ObjectMapper().writeValueAsBytes(block).length;
+        assertTrue(BlockCodec.encodeBlock(block).length < jsonLength * 3 / 4);
+    }
+
+    @Test
+    void headerPrefixIsWhatVersionThreeHashes() throws Exception {
+        Block block = sampleBlock();
+        byte[] encoded = BlockCodec.encodeBlock(block);
+        byte[] prefix = BlockCodec.encodeHeaderPrefix(block);
+        assertArrayEquals(prefix, Arrays.copyOfRange(encoded, 1, prefix.length + 1));
+        assertArrayEquals(prefix, block.hashPrefixBytes());
+        assertTrue(block.hasBinaryNonce());
+
+        BlockHasher hasher = block.newHasher();
+        hasher.hash(-42);
+        assertEquals(block.calculateHash(-42), hasher.lastHashHex());
+    }
+}
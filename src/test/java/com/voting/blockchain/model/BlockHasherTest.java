@@ -0,0 +1,56 @@
+package com.voting.blockchain.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockHasherTest {
+
+    // The original Block.calculateHash, kept here so we can prove the fast path is hash-compatible
+    private static String legacyHash(Block block, int nonce) throws Exception {
+        String serializedData = new ObjectMapper().writeValueAsString(block.getData());
+        String dataToHash = block.getIndex() + Long.toString(block.getTimestamp()) + serializedData + block.getPreviousHash() + nonce;
+        byte[] hashBytes = MessageDigest.getInstance("SHA-256").digest(dataToHash.getBytes(StandardCharsets.UTF_8));
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hashBytes) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) hexString.append('0');
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+
+    @Test
+    void matchesLegacyHashForAllNonceShapes() throws Exception {
+        Block block = new Block(7, "00ab", List.of(
+                new VoteTransaction("voter-1", "candidate-a", "pk1", "sig1"),
+                new VoteTransaction("voter-2", "candidate-b", "pk2", "sig2")));
+        block.setVersion(Block.LEGACY_VERSION);
+        BlockHasher hasher = block.newHasher();
+
+        for (int nonce : new int[]{0, 1, 9, 10, 12345, Integer.MAX_VALUE, -1, -10, Integer.MIN_VALUE}) {
+            hasher.hash(nonce);
+            assertEquals(legacyHash(block, nonce), hasher.lastHashHex(), "nonce " + nonce);
+            assertEquals(legacyHash(block, nonce), block.calculateHash(nonce), "nonce " + nonce);
+        }
+    }
+
+    @Test
+    void checksLeadingZeroBitsOnRawBytes() {
+        byte[] hash = new byte[32];
+        hash[2] = 0x10; // 0001 0000: 19 leading zero bits
+        assertTrue(BlockHasher.hasLeadingZeroBits(hash, 0));
+        assertTrue(BlockHasher.hasLeadingZeroBits(hash, 16));
+        assertTrue(BlockHasher.hasLeadingZeroBits(hash, 19));
+        assertFalse(BlockHasher.hasLeadingZeroBits(hash, 20));
+        assertTrue(BlockHasher.hasLeadingZeroBits(new byte[32], 256));
+        assertFalse(BlockHasher.hasLeadingZeroBits(new byte[32], 257));
+    }
+}
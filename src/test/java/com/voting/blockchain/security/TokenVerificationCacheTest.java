@@ -0,0 +1,72 @@
+package com.voting.blockchain.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenVerificationCacheTest {
+
+    // Local stand-in for Firebase: "uid:iat:exp" tokens, anything else is invalid
+    private static class StubVerifier implements IdTokenVerifier {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public VerifiedToken verify(String idToken) throws InvalidTokenException {
+            calls.incrementAndGet();
+            String[] parts = idToken.split(":");
+            if (parts.length != 3) {
+                throw new InvalidTokenException("malformed");
+            }
+            return new VerifiedToken(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        }
+    }
+
+    private final StubVerifier verifier = new StubVerifier();
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final TokenVerificationCache cache = new TokenVerificationCache(verifier, 100, 3_600, now::get);
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals("alice", cache.verify("alice:900:2000").getUid());
+        }
+        assertEquals(1, verifier.calls.get());
+    }
+
+    @Test
+    void expiredEntryIsNotServedFromCache() throws Exception {
+        cache.verify("alice:900:2000");
+        now.set(2_000);
+        assertThrows(InvalidTokenException.class, () -> cache.verify("alice:900:2000"));
+        assertEquals(2, verifier.calls.get());
+    }
+
+    @Test
+    void revokedUserMustPresentANewerToken() throws Exception {
+        cache.verify("alice:900:2000");
+        now.set(1_100);
+        cache.revokeUser("alice");
+
+        assertThrows(InvalidTokenException.class, () -> cache.verify("alice:900:2000"));
+        now.set(1_200);
+        assertEquals("alice", cache.verify("alice:1150:3000").getUid());
+    }
+
+    @Test
+    void revocationIsForgottenOnceItsTokensHaveExpired() throws Exception {
+        cache.revokeUser("alice");
+        now.set(1_000 + 3_599);
+        assertEquals(1, cache.getRevokedUserCount());
+        now.set(1_000 + 3_600);
+        assertEquals(0, cache.getRevokedUserCount());
+    }
+
+    @Test
+    void invalidTokenIsRejected() {
+        assertThrows(InvalidTokenException.class, () -> cache.verify("garbage"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.VoteTransaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalMempoolStoreTest {
+
+    private static final int SEGMENT_BYTES = 1 << 16;
+
+    @TempDir
+    Path directory;
+
+    private LocalMempoolStore open() throws Exception {
+        return new LocalMempoolStore(new SegmentedLog(directory, SEGMENT_BYTES, SegmentedLog.FsyncPolicy.NEVER, 0), directory.toString());
+    }
+
+    private static VoteTransaction vote(int i) {
+        return new VoteTransaction("voter-" + i, "c" + (i % 3), "key-" + i, "sig-" + i);
+    }
+
+    @Test
+    void journalIsCompactedWhileVotesStayPending() throws Exception {
+        List<VoteTransaction> pending = new ArrayList<>();
+        LocalMempoolStore store = open();
+        try {
+            for (int i = 0; i < 12_000; i++) {
+                VoteTransaction transaction = vote(i);
+                store.save(transaction).join();
+                if (i % 1000 == 999) { // Mine all but the newest vote of each round, so the pool is never empty
+                    store.remove(pending);
+                    pending.clear();
+                }
+                pending.add(transaction);
+            }
+            assertEquals(txIds(pending), txIds(store.loadAll()));
+        } finally {
+            store.close();
+        }
+
+        long journalBytes;
+        try (Stream<Path> files = Files.list(directory)) {
+            journalBytes = files.mapToLong(path -> path.toFile().length()).sum();
+        }
+        assertTrue(journalBytes < 4 * SEGMENT_BYTES, "mined votes' segments should have been deleted, journal has " + journalBytes + " bytes");
+        LocalMempoolStore reopened = open();
+        try {
+            assertEquals(txIds(pending), txIds(reopened.loadAll()));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    private static List<String> txIds(List<VoteTransaction> transactions) {
+        return transactions.stream().map(VoteTransaction::calculateTxId).toList();
+    }
+}
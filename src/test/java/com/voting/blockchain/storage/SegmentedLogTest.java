@@ -0,0 +1,120 @@
+package com.voting.blockchain.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedLogTest {
+
+    @TempDir
+    Path directory;
+
+    private static byte[] payload(int i) {
+        return ("record-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private SegmentedLog open() throws Exception {
+        return new SegmentedLog(directory, 256, SegmentedLog.FsyncPolicy.ALWAYS, 0);
+    }
+
+    @Test
+    void recordsSurviveReopenAcrossSegments() throws Exception {
+        try (SegmentedLog log = open()) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, log.append(payload(i), true));
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() > 1, "small segment size should roll over");
+        }
+
+        try (SegmentedLog log = open()) {
+            assertEquals(100, log.size());
+            assertArrayEquals(payload(57), log.read(57));
+            List<byte[]> replayed = new ArrayList<>();
+            log.replay(40, (index, record) -> replayed.add(record));
+            assertEquals(60, replayed.size());
+            assertArrayEquals(payload(40), replayed.get(0));
+            assertArrayEquals(payload(99), replayed.get(59));
+        }
+    }
+
+    @Test
+    void tornTailIsTruncatedOnOpen() throws Exception {
+        try (SegmentedLog log = open()) {
+            log.append(payload(0), true);
+            log.append(payload(1), true);
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3); // Simulate a crash part-way through the second record
+        }
+
+        try (SegmentedLog log = open()) {
+            assertEquals(1, log.size());
+            assertEquals(1, log.append(payload(2), true));
+            assertArrayEquals(payload(2), log.read(1));
+        }
+    }
+
+    @Test
+    void droppedHeadSegmentsStayDroppedAfterReopen() throws Exception {
+        long start;
+        try (SegmentedLog log = open()) {
+            for (int i = 0; i < 100; i++) {
+                log.append(payload(i), true);
+            }
+            start = log.roll();
+            log.append(payload(100), true);
+            log.dropBefore(start);
+            assertEquals(start, log.firstIndex());
+            assertArrayEquals(payload(100), log.read(start));
+        }
+
+        try (SegmentedLog log = open()) {
+            assertEquals(start, log.firstIndex());
+            assertEquals(start + 1, log.size());
+            List<byte[]> replayed = new ArrayList<>();
+            log.replay(0, (index, record) -> replayed.add(record));
+            assertEquals(1, replayed.size());
+            assertArrayEquals(payload(100), replayed.get(0));
+        }
+    }
+
+    @Test
+    void truncateDropsLaterRecordsAcrossSegments() throws Exception {
+        try (SegmentedLog log = open()) {
+            for (int i = 0; i < 100; i++) {
+                log.append(payload(i), true);
+            }
+            log.truncate(37);
+            assertEquals(37, log.size());
+            assertEquals(37, log.append(payload(1000), true));
+            assertArrayEquals(payload(36), log.read(36));
+            assertArrayEquals(payload(1000), log.read(37));
+        }
+
+        try (SegmentedLog log = open()) {
+            assertEquals(38, log.size());
+            List<byte[]> replayed = new ArrayList<>();
+            log.replay(0, (index, record) -> replayed.add(record));
+            assertEquals(38, replayed.size());
+            assertArrayEquals(payload(1000), replayed.get(37));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.voting.blockchain.storage;
+
+import com.voting.blockchain.model.Block;
+import com.voting.blockchain.model.VoteTransaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private static List<Block> chain(int length) {
+        List<Block> blocks = new ArrayList<>();
+        String previousHash = "0";
+        for (int i = 0; i < length; i++) {
+            List<VoteTransaction> votes = List.of(new VoteTransaction("voter" + i, "candidate" + (i % 2), "key" + i, "sig" + i));
+            Block block = new Block(i, previousHash, votes);
+            block.setHash(block.calculateHash());
+            blocks.add(block);
+            previousHash = block.getHash();
+        }
+        return blocks;
+    }
+
+    private static ChainSnapshot snapshot(List<Block> blocks) {
+        return new ChainSnapshot(blocks, Map.of("candidate0", 2L, "candidate1", 2L), SnapshotStore.confirmedVoters(blocks));
+    }
+
+    @Test
+    void latestSnapshotRoundTrips() throws Exception {
+        SnapshotStore store = new SnapshotStore(directory, 10, 2);
+        List<Block> blocks = chain(5);
+        store.write(snapshot(blocks.subList(0, 3)));
+        store.write(snapshot(blocks));
+
+        ChainSnapshot loaded = store.loadLatest();
+        assertEquals(5, loaded.getBlocks().size());
+        assertEquals(blocks.get(4).getHash(), loaded.getLastBlock().getHash());
+        assertEquals(blocks.get(4).calculateHash(), loaded.getLastBlock().calculateHash());
+        assertEquals("voter4", loaded.getLastBlock().getData().get(0).getVoterId());
+        assertEquals(Map.of("candidate0", 2L, "candidate1", 2L), loaded.getConfirmedTally());
+        assertEquals(4, loaded.getVoters().size()); // The genesis marker is not a voter
+    }
+
+    @Test
+    void damagedSnapshotFallsBackToTheOlderOne() throws Exception {
+        SnapshotStore store = new SnapshotStore(directory, 10, 3);
+        List<Block> blocks = chain(5);
+        store.write(snapshot(blocks.subList(0, 3)));
+        store.write(snapshot(blocks));
+
+        Path newest;
+        try (Stream<Path> files = Files.list(directory)) {
+            newest = files.max(Path::compareTo).orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(newest);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(newest, bytes);
+
+        assertEquals(2, store.loadLatest().getLastBlock().getIndex());
+    }
+
+    @Test
+    void corruptCountsFallBackToTheOlderSnapshot() throws Exception {
+        SnapshotStore store = new SnapshotStore(directory, 10, 3);
+        List<Block> blocks = chain(5);
+        store.write(snapshot(blocks.subList(0, 3)));
+        store.write(snapshot(blocks));
+
+        Path newest;
+        try (Stream<Path> files = Files.list(directory)) {
+            newest = files.max(Path::compareTo).orElseThrow();
+        }
+        byte[] original = Files.readAllBytes(newest);
+        for (int count : new int[] {-1, Integer.MAX_VALUE}) {
+            byte[] bytes = original.clone();
+            ByteBuffer.wrap(bytes).putInt(8, count); // The block count, after magic and format version
+            Files.write(newest, bytes);
+            assertEquals(2, store.loadLatest().getLastBlock().getIndex());
+        }
+    }
+
+    @Test
+    void disabledStoreLoadsNothing() throws Exception {
+        SnapshotStore enabled = new SnapshotStore(directory, 10, 2);
+        enabled.write(snapshot(chain(2)));
+        assertNull(new SnapshotStore(directory, 0, 2).loadLatest());
+    }
+}
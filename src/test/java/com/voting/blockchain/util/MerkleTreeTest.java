@@ -0,0 +1,42 @@
+package com.voting.blockchain.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MerkleTreeTest {
+
+    private static List<byte[]> leaves(int count) throws Exception {
+        List<byte[]> leaves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            leaves.add(MessageDigest.getInstance("SHA-256").digest(("tx" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+        return leaves;
+    }
+
+    @Test
+    void everyLeafProvesAgainstTheRootForOddAndEvenSizes() throws Exception {
+        for (int size = 1; size <= 17; size++) {
+            List<byte[]> leaves = leaves(size);
+            byte[] root = MerkleTree.root(leaves);
+            for (int i = 0; i < size; i++) {
+                List<MerkleTree.ProofStep> proof = MerkleTree.proof(leaves, i);
+                assertTrue(MerkleTree.verify(leaves.get(i), proof, root), "leaf " + i + " of " + size);
+                assertTrue(proof.size() <= 32 - Integer.numberOfLeadingZeros(size));
+            }
+        }
+    }
+
+    @Test
+    void proofDoesNotVerifyADifferentLeaf() throws Exception {
+        List<byte[]> leaves = leaves(6);
+        byte[] root = MerkleTree.root(leaves);
+        assertFalse(MerkleTree.verify(leaves.get(1), MerkleTree.proof(leaves, 0), root));
+    }
+}